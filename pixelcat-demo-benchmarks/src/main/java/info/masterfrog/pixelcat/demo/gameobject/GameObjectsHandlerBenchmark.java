@@ -0,0 +1,78 @@
+package info.masterfrog.pixelcat.demo.gameobject;
+
+import info.masterfrog.pixelcat.demo.main.headless.HeadlessKernelState;
+import info.masterfrog.pixelcat.demo.enumeration.LevelHandle;
+import info.masterfrog.pixelcat.demo.level.LevelHandler;
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObjectManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class GameObjectsHandlerBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int bushCount;
+
+    private HeadlessKernelState headlessKernelState;
+    private GameObjectsHandler gameObjectsHandler;
+
+    private static final Rectangle SCREEN_BOUNDS = new Rectangle(0, 0, 1280, 720);
+
+    @State(Scope.Thread)
+    public static class StartScreenState {
+        @Param({"1000", "10000", "100000"})
+        private int bushCount;
+
+        private GameObjectsHandler gameObjectsHandler;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            // level one is loaded alongside the start screen, which keeps the common elements in place
+            gameObjectsHandler = new GameObjectsHandler(new HeadlessKernelState(SCREEN_BOUNDS).getKernelState(), bushCount);
+            gameObjectsHandler.init(new LevelHandler(LevelHandle.START_SCREEN));
+            gameObjectsHandler.getGameObjectManagerList(LevelHandle.L1);
+        }
+
+        @Setup(Level.Invocation)
+        public void unloadLevelOne() throws TransientGameException {
+            gameObjectsHandler.unloadLevel(LevelHandle.L1);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        headlessKernelState = new HeadlessKernelState(SCREEN_BOUNDS);
+    }
+
+    @Benchmark
+    public GameObjectsHandler init() {
+        // the game object builder is a process-wide singleton, so start screen objects after the first invocation land
+        // in the first handler's manager, at the same construction cost
+        gameObjectsHandler = new GameObjectsHandler(headlessKernelState.getKernelState(), bushCount);
+        gameObjectsHandler.init(new LevelHandler(LevelHandle.START_SCREEN));
+
+        return gameObjectsHandler;
+    }
+
+    @TearDown(Level.Invocation)
+    public void awaitBackgroundConstruction() {
+        // keep background level builds from leaking into the next invocation
+        if (gameObjectsHandler != null) {
+            gameObjectsHandler.getGameObjectManagerList(LevelHandle.L1);
+            gameObjectsHandler = null;
+        }
+    }
+
+    @Benchmark
+    public List<GameObjectManager> loadLevelOne(StartScreenState state) throws TransientGameException {
+        return state.gameObjectsHandler.loadLevel(LevelHandle.L1).getGameObjectManagerList(LevelHandle.L1);
+    }
+}
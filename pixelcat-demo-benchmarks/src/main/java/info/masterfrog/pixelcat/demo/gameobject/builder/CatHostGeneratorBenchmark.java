@@ -0,0 +1,31 @@
+package info.masterfrog.pixelcat.demo.gameobject.builder;
+
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObject;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObjectManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CatHostGeneratorBenchmark {
+    private GameObjectManager gameObjectManager;
+
+    private static final Rectangle SCREEN_BOUNDS = new Rectangle(0, 0, 1280, 720);
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        gameObjectManager = GameObjectManager.create(2);
+    }
+
+    @Benchmark
+    public GameObject generate() throws TransientGameException {
+        return new CatHostGenerator(gameObjectManager, SCREEN_BOUNDS).generate().getGameObject();
+    }
+}
@@ -0,0 +1,48 @@
+package info.masterfrog.pixelcat.demo.main.kernel;
+
+import info.masterfrog.pixelcat.demo.main.headless.HeadlessKernelState;
+import info.masterfrog.pixelcat.demo.enumeration.LevelHandle;
+import info.masterfrog.pixelcat.demo.gameobject.GameObjectsHandler;
+import info.masterfrog.pixelcat.demo.level.LevelHandler;
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.kernel.KernelState;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PreProcessingKernelInjectionBenchmark {
+    @Param({"START_SCREEN", "L1"})
+    private LevelHandle level;
+
+    @Param({"1000", "10000", "100000"})
+    private int bushCount;
+
+    private KernelState kernelState;
+    private PreProcessingKernelInjection injection;
+
+    private static final Rectangle SCREEN_BOUNDS = new Rectangle(0, 0, 1280, 720);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessKernelState headlessKernelState = new HeadlessKernelState(SCREEN_BOUNDS);
+        GameObjectsHandler gameObjectsHandler = new GameObjectsHandler(headlessKernelState.getKernelState(), bushCount);
+        LevelHandler levelHandler = new LevelHandler(level);
+        gameObjectsHandler.init(levelHandler);
+        gameObjectsHandler.activateLevel(level);
+
+        kernelState = headlessKernelState.getKernelState();
+        injection = new PreProcessingKernelInjection(levelHandler, gameObjectsHandler);
+    }
+
+    @Benchmark
+    public void run() throws TransientGameException {
+        injection.run(kernelState);
+    }
+}
@@ -6,6 +6,18 @@ import info.masterfrog.pixelcat.demo.enumeration.GameObjectHandle;
 import info.masterfrog.pixelcat.demo.enumeration.GameObjectManagerHandle;
 import info.masterfrog.pixelcat.demo.enumeration.LevelHandle;
 import info.masterfrog.pixelcat.demo.gameobject.builder.GameObjectBuilder;
+import info.masterfrog.pixelcat.demo.gameobject.field.BushField;
+import info.masterfrog.pixelcat.demo.gameobject.field.BushFieldStreamer;
+import info.masterfrog.pixelcat.demo.gameobject.layer.YSortedLayering;
+import info.masterfrog.pixelcat.demo.gameobject.render.DirtyRegionTracker;
+import info.masterfrog.pixelcat.demo.gameobject.spatial.SpatialGrid;
+import info.masterfrog.pixelcat.demo.level.LevelHandler;
+import info.masterfrog.pixelcat.demo.resource.AssetScope;
+import info.masterfrog.pixelcat.demo.resource.ResourceCache;
+import info.masterfrog.pixelcat.demo.scene.SceneLoader;
+import info.masterfrog.pixelcat.demo.scene.WorldGenerator;
+import info.masterfrog.pixelcat.demo.sound.AudioMixer;
+import info.masterfrog.pixelcat.demo.sound.PcmCache;
 import info.masterfrog.pixelcat.engine.common.printer.Printer;
 import info.masterfrog.pixelcat.engine.common.printer.PrinterFactory;
 import info.masterfrog.pixelcat.engine.exception.GameErrorCode;
@@ -24,67 +36,177 @@ import info.masterfrog.pixelcat.engine.logic.gameobject.behavior.*;
 import info.masterfrog.pixelcat.engine.logic.gameobject.feature.*;
 import info.masterfrog.pixelcat.engine.logic.physics.screen.ScreenBoundsHandlingTypeEnum;
 import info.masterfrog.pixelcat.engine.logic.resource.Resource;
-import info.masterfrog.pixelcat.engine.logic.resource.ResourceFactory;
 import info.masterfrog.pixelcat.engine.logic.resource.SpriteSheet;
 
 import java.awt.*;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 public class GameObjectsHandler {
     private KernelState kernelState;
-    private Map<GameObjectHandle, GameObjectIdentifier> gameObjects;
-    private Map<GameObjectManagerHandle, String> gameObjectManagerHandles;
+    private AtomicReferenceArray<GameObjectIdentifier> gameObjects;
+    private AtomicReferenceArray<GameObject> resolvedGameObjects;
+    private AtomicReferenceArray<GameObjectManager> resolvedGameObjectManagers;
     private Map<String, GameObjectManager> gameObjectManagers;
-    private Map<LevelHandle, List<String>> levels;
-
-    private static ResourceFactory resourceFactory = ResourceFactory.getInstance();
+    private AtomicReferenceArray<ForkJoinTask<GameObjectManager>> pendingGameObjectManagers;
+    private Map<LevelHandle, List<GameObjectManagerHandle>> levels;
+    private Map<GameObjectManagerHandle, GameObjectManagerGenerator> generators;
+    private Map<GameObjectManagerHandle, GameObjectManagerHandle> dependencies;
+    private Set<LevelHandle> loadedLevels;
+    private volatile LevelHandle activeLevel;
+    private Map<GameObjectManagerHandle, SpatialGrid> spatialIndexes;
+    private Map<GameObjectManagerHandle, YSortedLayering> ySortedLayerings;
+    private Map<GameObjectManagerHandle, DirtyRegionTracker> dirtyRegionTrackers;
+    private boolean dirtyRegionsTracked;
+    private Rectangle worldBounds;
+    private boolean worldStreamed;
+    private volatile BushField bushField;
+    private volatile BushFieldStreamer bushFieldStreamer;
+    private Integer bushCount;
+
+    private static ResourceCache resourceCache = ResourceCache.getInstance();
     private static AnimationFactory animationFactory = AnimationFactory.getInstance();
-    private static Random randomGenerator = new Random();
+    private static ForkJoinPool levelBuildPool = createLevelBuildPool();
+    private static WorldGenerator worldGenerator = WorldGenerator.create(ForkJoinPool.commonPool());
+
+    private static final String LEVEL_ONE_SCENE = "scenes/level-one.bin";
+    private static final int GRASS_BG_TILE_WIDTH = 1950;
+    private static final int GRASS_BG_TILE_HEIGHT = 1080;
+    private static final int SPATIAL_INDEX_CELL_SIZE = 64;
+    private static final int BUSH_CEL_WIDTH = 18;
+    private static final int BUSH_CEL_HEIGHT = 19;
+    private static final int CAT_CHARACTER_CEL_WIDTH = 60;
+    private static final int CAT_CHARACTER_CEL_HEIGHT = 30;
+    private static final int TITLE_CEL_WIDTH = 190;
+    private static final int TITLE_CEL_HEIGHT = 80;
+    private static final String LEVEL_ONE_ENTRY_SOUND_FILE = "zelda-boss-battle.ogg";
+    private static final float LEVEL_ONE_ENTRY_SOUND_GAIN = 0.8f;
 
     private static Printer PRINTER = PrinterFactory.getInstance().createPrinter(GameObjectsHandler.class);
 
+    private interface GameObjectManagerGenerator {
+        GameObjectManager generate(GameObjectManager dependency) throws TransientGameException;
+    }
+
+    private static ForkJoinPool createLevelBuildPool() {
+        // the engine factories, and the game object builder, make no thread safety promises, so every manager is
+        // built on this one thread, one build at a time, only overlapping the kernel thread's use of other managers
+        return new ForkJoinPool(
+            1,
+            pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("pixelcat-level-builder");
+
+                return thread;
+            },
+            null,
+            false
+        );
+    }
+
     public GameObjectsHandler(KernelState kernelState) {
+        this(kernelState, null);
+    }
+
+    public GameObjectsHandler(KernelState kernelState, Integer bushCount) {
         this.kernelState = kernelState;
-        this.gameObjects = new HashMap<>();
-        this.gameObjectManagerHandles = new HashMap<>();
-        this.gameObjectManagers = new HashMap<>();
-        this.levels = new HashMap<>();
+        // a bush count generates that many bushes procedurally instead of loading the compiled level one scene
+        this.bushCount = bushCount;
+        this.gameObjects = new AtomicReferenceArray<>(GameObjectHandle.values().length);
+        this.resolvedGameObjects = new AtomicReferenceArray<>(GameObjectHandle.values().length);
+        this.resolvedGameObjectManagers = new AtomicReferenceArray<>(GameObjectManagerHandle.values().length);
+        this.gameObjectManagers = new ConcurrentHashMap<>();
+        this.pendingGameObjectManagers = new AtomicReferenceArray<>(GameObjectManagerHandle.values().length);
+        this.levels = new ConcurrentHashMap<>();
+        this.generators = new EnumMap<>(GameObjectManagerHandle.class);
+        this.dependencies = new EnumMap<>(GameObjectManagerHandle.class);
+        this.loadedLevels = EnumSet.noneOf(LevelHandle.class);
+        this.activeLevel = null;
+        this.spatialIndexes = new ConcurrentHashMap<>();
+        this.ySortedLayerings = new ConcurrentHashMap<>();
+        this.dirtyRegionTrackers = new ConcurrentHashMap<>();
+        this.dirtyRegionsTracked = Boolean.getBoolean(DirtyRegionTracker.ENABLED_PROPERTY);
     }
 
     private GameObjectsHandler registerGameObject(GameObjectHandle handle, String objectId, String managerId) {
         // generate identifier
         GameObjectIdentifier gameObjectIdentifier = new GameObjectIdentifier(objectId, managerId);
 
-        // store identifier against handle
-        gameObjects.put(handle, gameObjectIdentifier);
+        // store identifier against handle, dropping any stale resolution
+        gameObjects.set(handle.ordinal(), gameObjectIdentifier);
+        resolvedGameObjects.set(handle.ordinal(), null);
 
         return this;
     }
 
     public GameObject getGameObject(GameObjectHandle gameObjectHandle) throws TransientGameException {
+        // fetch pre-bound game object
+        GameObject gameObject = resolvedGameObjects.get(gameObjectHandle.ordinal());
+        if (gameObject != null) {
+            return gameObject;
+        }
+
         // fetch identifier
-        GameObjectIdentifier gameObjectIdentifier = gameObjects.get(gameObjectHandle);
+        GameObjectIdentifier gameObjectIdentifier = gameObjects.get(gameObjectHandle.ordinal());
+
+        // validate
+        if (gameObjectIdentifier == null) {
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
 
         // fetch game object manager
         GameObjectManager gameObjectManager = getGameObjectManager(gameObjectIdentifier.getParentId());
 
         // fetch game object from game manager
-        GameObject gameObject = gameObjectManager.get(gameObjectIdentifier.id);
+        gameObject = gameObjectManager.get(gameObjectIdentifier.id);
+
+        // bind game object to handle for subsequent lookups
+        resolvedGameObjects.set(gameObjectHandle.ordinal(), gameObject);
 
         return gameObject;
     }
 
     public GameObjectsHandler registerGameObjectManager(GameObjectManagerHandle handle, GameObjectManager manager) {
-        // store id against handle
-        gameObjectManagerHandles.put(handle, manager.getId());
+        // store manager against handle
+        GameObjectManager previousManager = resolvedGameObjectManagers.getAndSet(handle.ordinal(), manager);
 
         // store manager against id
         gameObjectManagers.put(manager.getId(), manager);
 
+        // invalidate game objects bound through a swapped out manager
+        if (previousManager != null && previousManager != manager) {
+            gameObjectManagers.remove(previousManager.getId());
+            invalidateGameObjects(previousManager.getId());
+        }
+
         return this;
     }
 
+    private void invalidateGameObjects(String managerId) {
+        for (int i = 0; i < resolvedGameObjects.length(); i++) {
+            GameObjectIdentifier gameObjectIdentifier = gameObjects.get(i);
+            if (gameObjectIdentifier != null && gameObjectIdentifier.getParentId().equals(managerId)) {
+                resolvedGameObjects.set(i, null);
+            }
+        }
+    }
+
+    private void forgetGameObjects(String managerId) {
+        for (int i = 0; i < gameObjects.length(); i++) {
+            GameObjectIdentifier gameObjectIdentifier = gameObjects.get(i);
+            if (gameObjectIdentifier != null && gameObjectIdentifier.getParentId().equals(managerId)) {
+                gameObjects.set(i, null);
+                resolvedGameObjects.set(i, null);
+            }
+        }
+    }
+
     public GameObjectManager getGameObjectManager(String id) throws TransientGameException {
         // validate
         if (!gameObjectManagers.containsKey(id)) {
@@ -98,31 +220,124 @@ public class GameObjectsHandler {
     }
 
     public GameObjectManager getGameObjectManager(GameObjectManagerHandle handle) throws TransientGameException {
+        // wait on background construction if the manager is not ready yet
+        if (pendingGameObjectManagers.get(handle.ordinal()) != null) {
+            awaitGameObjectManager(handle);
+        }
+
+        // fetch manager from handle
+        GameObjectManager manager = resolvedGameObjectManagers.get(handle.ordinal());
+
         // validate
-        if (!gameObjectManagerHandles.containsKey(handle)) {
+        if (manager == null) {
             throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
         }
 
-        // fetch id from handle
-        String id = gameObjectManagerHandles.get(handle);
+        return manager;
+    }
 
-        // fetch manager from id
-        GameObjectManager manager = getGameObjectManager(id);
+    private GameObjectsHandler buildGameObjectManager(GameObjectManagerHandle handle) throws TransientGameException {
+        // resolve the manager this one builds on here, a build waiting on another from the single build thread never ends
+        GameObjectManagerHandle dependencyHandle = dependencies.get(handle);
+        GameObjectManager dependency = dependencyHandle != null ? getGameObjectManager(dependencyHandle) : null;
+
+        // build manager in the background, attributing the assets it caches to the manager so they can be released with
+        // it, registration happens once it is first requested
+        GameObjectManagerGenerator generator = generators.get(handle);
+        pendingGameObjectManagers.set(
+            handle.ordinal(),
+            levelBuildPool.submit(() -> AssetScope.run(handle, () -> generator.generate(dependency)))
+        );
 
-        return manager;
+        return this;
     }
 
-    private GameObjectsHandler registerGameObjectManagerList(LevelHandle handle, List<GameObjectManager> managers) {
-        // setup
-        List<String> managerIds = new ArrayList<>();
+    private void awaitGameObjectManager(GameObjectManagerHandle handle) throws TransientGameException {
+        // fetch pending build
+        ForkJoinTask<GameObjectManager> task = pendingGameObjectManagers.get(handle.ordinal());
+        if (task == null) {
+            return;
+        }
+
+        // block until built
+        GameObjectManager manager;
+        try {
+            manager = task.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TransientGameException) {
+                throw (TransientGameException) e.getCause();
+            }
+            PRINTER.printWarning("Background construction failed for game object manager... [" + handle + "]");
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        // register built manager
+        registerGameObjectManager(handle, manager);
+        pendingGameObjectManagers.compareAndSet(handle.ordinal(), task, null);
+    }
+
+    private GameObjectsHandler registerGameObjectManagerGenerator(GameObjectManagerHandle handle,
+                                                                  GameObjectManagerHandle dependencyHandle,
+                                                                  GameObjectManagerGenerator generator) {
+        // store generator against handle, along with the manager it builds on if any
+        generators.put(handle, generator);
+        if (dependencyHandle != null) {
+            dependencies.put(handle, dependencyHandle);
+        }
+
+        return this;
+    }
+
+    private void loadGameObjectManager(GameObjectManagerHandle handle) throws TransientGameException {
+        // skip managers already built or being built
+        if (resolvedGameObjectManagers.get(handle.ordinal()) != null || pendingGameObjectManagers.get(handle.ordinal()) != null) {
+            return;
+        }
+
+        // build manager on the level build thread and wait for it
+        buildGameObjectManager(handle);
+        awaitGameObjectManager(handle);
+    }
 
-        // iterate through and build list of IDs from managers
-        for (GameObjectManager manager : managers) {
-            managerIds.add(manager.getId());
+    private void unloadGameObjectManager(GameObjectManagerHandle handle) {
+        // let any background build finish so it cannot register anything after the unload
+        ForkJoinTask<GameObjectManager> task = pendingGameObjectManagers.getAndSet(handle.ordinal(), null);
+        GameObjectManager manager = resolvedGameObjectManagers.getAndSet(handle.ordinal(), null);
+        if (task != null) {
+            task.quietlyJoin();
+            if (!task.isCompletedAbnormally()) {
+                manager = task.join();
+            }
         }
 
-        // store list of manager IDs
-        levels.put(handle, managerIds);
+        // drop the manager and every handle bound through it
+        if (manager != null) {
+            gameObjectManagers.remove(manager.getId());
+            forgetGameObjects(manager.getId());
+        }
+
+        // drop demo-side structures built with the manager
+        spatialIndexes.remove(handle);
+        ySortedLayerings.remove(handle);
+        dirtyRegionTrackers.remove(handle);
+        if (handle == GameObjectManagerHandle.L1) {
+            bushField = null;
+            bushFieldStreamer = null;
+        }
+
+        // release decoded image and audio data no other manager holds
+        resourceCache.release(handle);
+        PcmCache.getInstance().release(handle);
+
+        PRINTER.printInfo("Game object manager unloaded... [" + handle + "]");
+    }
+
+    private GameObjectsHandler registerGameObjectManagerList(LevelHandle handle, List<GameObjectManagerHandle> managerHandles) {
+        // store list of manager handles
+        levels.put(handle, managerHandles);
 
         return this;
     }
@@ -137,13 +352,13 @@ public class GameObjectsHandler {
                 throw new TerminalGameException(GameErrorCode.LOGIC_ERROR);
             }
 
-            // fetch list of manager IDs
-            List<String> managerIds = levels.get(handle);
+            // fetch list of manager handles
+            List<GameObjectManagerHandle> managerHandles = levels.get(handle);
 
-            // iterate through and build list of managers from IDs
-            for (String managerId : managerIds) {
+            // iterate through and build list of managers from handles, waiting on any still being built
+            for (GameObjectManagerHandle managerHandle : managerHandles) {
                 try {
-                    managers.add(getGameObjectManager(managerId));
+                    managers.add(getGameObjectManager(managerHandle));
                 } catch (TransientGameException e) {
                     throw new TerminalGameException(e);
                 }
@@ -155,23 +370,170 @@ public class GameObjectsHandler {
         return managers;
     }
 
-    public void init() throws TerminalErrorException {
+    public synchronized GameObjectsHandler loadLevel(LevelHandle handle) throws TransientGameException {
+        // validate
+        if (!levels.containsKey(handle)) {
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        // build the level's managers in the background, skipping those already built or being built
+        for (GameObjectManagerHandle managerHandle : levels.get(handle)) {
+            if (resolvedGameObjectManagers.get(managerHandle.ordinal()) == null && pendingGameObjectManagers.get(managerHandle.ordinal()) == null) {
+                buildGameObjectManager(managerHandle);
+            }
+        }
+        loadedLevels.add(handle);
+
+        return this;
+    }
+
+    public List<GameObjectManager> activateLevel(LevelHandle handle) throws TerminalErrorException {
+        // make sure the level is loaded
         try {
-            // common elements
-            registerGameObjectManager(GameObjectManagerHandle.COMMON, generateCommonElements());
+            loadLevel(handle);
+        } catch (TransientGameException e) {
+            throw new TerminalErrorException(ImmutableSet.of(e));
+        }
+
+        // fetch managers, waiting on any still being built
+        List<GameObjectManager> managers = getGameObjectManagerList(handle);
+        activeLevel = handle;
+
+        // play the level's entry effect from the pcm decoded while it was built
+        if (handle == LevelHandle.L1) {
+            AudioMixer.getInstance().playEffect(LEVEL_ONE_ENTRY_SOUND_FILE, LEVEL_ONE_ENTRY_SOUND_GAIN);
+        }
+
+        return managers;
+    }
+
+    public synchronized GameObjectsHandler deactivateLevel(LevelHandle handle) {
+        if (activeLevel == handle) {
+            activeLevel = null;
+        }
+
+        return this;
+    }
+
+    public synchronized GameObjectsHandler unloadLevel(LevelHandle handle) throws TransientGameException {
+        // validate
+        if (!levels.containsKey(handle) || handle == activeLevel) {
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        // unload the level's managers no other loaded level shares
+        loadedLevels.remove(handle);
+        for (GameObjectManagerHandle managerHandle : levels.get(handle)) {
+            boolean shared = false;
+            for (LevelHandle loadedLevel : loadedLevels) {
+                shared |= levels.get(loadedLevel).contains(managerHandle);
+            }
+            if (!shared) {
+                unloadGameObjectManager(managerHandle);
+            }
+        }
+
+        return this;
+    }
+
+    public LevelHandle getActiveLevel() {
+        return activeLevel;
+    }
 
-            // start screen elements
-            registerGameObjectManager(GameObjectManagerHandle.START_SCREEN, generateStartScreenElements());
+    public SpatialGrid getSpatialIndex(GameObjectManagerHandle handle) throws TransientGameException {
+        // make sure the manager, and with it its index, has been built
+        getGameObjectManager(handle);
+
+        // validate
+        if (!spatialIndexes.containsKey(handle)) {
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        return spatialIndexes.get(handle);
+    }
 
-            // level one elements
-            registerGameObjectManager(GameObjectManagerHandle.L1, generateLevelOneElements());
+    public YSortedLayering getYSortedLayering(GameObjectManagerHandle handle) throws TransientGameException {
+        // make sure the manager, and with it its layering, has been built
+        getGameObjectManager(handle);
+
+        // validate
+        if (!ySortedLayerings.containsKey(handle)) {
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        return ySortedLayerings.get(handle);
+    }
+
+    public DirtyRegionTracker getDirtyRegionTracker(GameObjectManagerHandle handle) throws TransientGameException {
+        // make sure the manager, and with it its dirty region tracker, has been built
+        getGameObjectManager(handle);
+
+        // validate
+        if (!dirtyRegionTrackers.containsKey(handle)) {
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        return dirtyRegionTrackers.get(handle);
+    }
+
+    public List<DirtyRegionTracker> getDirtyRegionTrackerList(LevelHandle handle) throws TransientGameException {
+        // validate
+        if (!levels.containsKey(handle)) {
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        // iterate through and build list of trackers from the level's manager handles, none being built untracked
+        List<DirtyRegionTracker> dirtyRegionTrackerList = new ArrayList<>();
+        if (!dirtyRegionsTracked) {
+            return dirtyRegionTrackerList;
+        }
+        for (GameObjectManagerHandle managerHandle : levels.get(handle)) {
+            dirtyRegionTrackerList.add(getDirtyRegionTracker(managerHandle));
+        }
+
+        return dirtyRegionTrackerList;
+    }
+
+    public Rectangle getWorldBounds() {
+        return new Rectangle(worldBounds);
+    }
+
+    private boolean isWorldStreamed() {
+        return worldStreamed;
+    }
+
+    public BushField getBushField() {
+        return bushField;
+    }
+
+    public BushFieldStreamer getBushFieldStreamer() {
+        return bushFieldStreamer;
+    }
+
+    public void init(LevelHandler levelHandler) throws TerminalErrorException {
+        // level one spans the screen unless a larger, streamed world was asked for
+        Rectangle screenBounds = (Rectangle) kernelState.getProperty(KernelStatePropertyEnum.SCREEN_BOUNDS);
+        Integer worldWidth = Integer.getInteger(BushFieldStreamer.WORLD_WIDTH_PROPERTY);
+        Integer worldHeight = Integer.getInteger(BushFieldStreamer.WORLD_HEIGHT_PROPERTY);
+        worldBounds = new Rectangle(
+            0, 0,
+            worldWidth != null ? worldWidth : screenBounds.width,
+            worldHeight != null ? worldHeight : screenBounds.height
+        );
+        worldStreamed = worldWidth != null || worldHeight != null;
+
+        try {
+            // manager generators
+            registerGameObjectManagerGenerator(GameObjectManagerHandle.COMMON, null, dependency -> generateCommonElements());
+            registerGameObjectManagerGenerator(GameObjectManagerHandle.START_SCREEN, null, dependency -> generateStartScreenElements());
+            registerGameObjectManagerGenerator(GameObjectManagerHandle.L1, GameObjectManagerHandle.COMMON, this::generateLevelOneElements);
 
             // start screen
             registerGameObjectManagerList(
                 LevelHandle.START_SCREEN,
                 ImmutableList.of(
-                    getGameObjectManager(GameObjectManagerHandle.COMMON),
-                    getGameObjectManager(GameObjectManagerHandle.START_SCREEN)
+                    GameObjectManagerHandle.COMMON,
+                    GameObjectManagerHandle.START_SCREEN
                 )
             );
 
@@ -179,10 +541,25 @@ public class GameObjectsHandler {
             registerGameObjectManagerList(
                 LevelHandle.L1,
                 ImmutableList.of(
-                    getGameObjectManager(GameObjectManagerHandle.COMMON),
-                    getGameObjectManager(GameObjectManagerHandle.L1)
+                    GameObjectManagerHandle.COMMON,
+                    GameObjectManagerHandle.L1
                 )
             );
+
+            // current level elements, built up front
+            LevelHandle currentLevel = levelHandler.getCurrentLevel();
+            for (GameObjectManagerHandle managerHandle : levels.get(currentLevel)) {
+                loadGameObjectManager(managerHandle);
+            }
+            synchronized (this) {
+                loadedLevels.add(currentLevel);
+            }
+
+            // next level elements, prefetched in the background while the current level runs
+            LevelHandle nextLevel = levelHandler.peekNextLevel();
+            if (nextLevel != null) {
+                loadLevel(nextLevel);
+            }
         } catch (TransientGameException e) {
             throw new TerminalErrorException(ImmutableSet.of(e));
         }
@@ -201,14 +578,24 @@ public class GameObjectsHandler {
         // store game object ID for game processing
         registerGameObject(GameObjectHandle.CAT_CHARACTER, catCharacter.getId(), gameObjectManager.getId());
 
+        // repaint the animated cat character wherever it is
+        if (dirtyRegionsTracked) {
+            dirtyRegionTrackers.put(
+                GameObjectManagerHandle.COMMON,
+                new DirtyRegionTracker((Rectangle) kernelState.getProperty(KernelStatePropertyEnum.SCREEN_BOUNDS)).track(
+                    catCharacter, CAT_CHARACTER_CEL_WIDTH, CAT_CHARACTER_CEL_HEIGHT, true
+                )
+            );
+        }
+
         return gameObjectManager;
     }
 
     private GameObject generateCatCharacterGameObject(GameObjectManager gameObjectManager) throws TransientGameException {
         // generate sprite sheet
-        SpriteSheet nyanCatSpriteSheet = resourceFactory.createSpriteSheet(
+        SpriteSheet nyanCatSpriteSheet = resourceCache.getSpriteSheet(
             "cat_sprite_sheet.png",
-            60, 30,
+            CAT_CHARACTER_CEL_WIDTH, CAT_CHARACTER_CEL_HEIGHT,
             0, 25, 0, 10
         );
 
@@ -222,20 +609,20 @@ public class GameObjectsHandler {
 
         // define resources
         List<Resource> catResourcesRight = ImmutableList.of(
-            resourceFactory.createImageResource(resourceFactory.createSpriteResource(0, 0, nyanCatSpriteSheet)),
-            resourceFactory.createImageResource(resourceFactory.createSpriteResource(1, 0, nyanCatSpriteSheet)),
-            resourceFactory.createImageResource(resourceFactory.createSpriteResource(2, 0, nyanCatSpriteSheet)),
-            resourceFactory.createImageResource(resourceFactory.createSpriteResource(3, 0, nyanCatSpriteSheet)),
-            resourceFactory.createImageResource(resourceFactory.createSpriteResource(4, 0, nyanCatSpriteSheet)),
-            resourceFactory.createImageResource(resourceFactory.createSpriteResource(5, 0, nyanCatSpriteSheet))
+            resourceCache.getImageResource(0, 0, nyanCatSpriteSheet),
+            resourceCache.getImageResource(1, 0, nyanCatSpriteSheet),
+            resourceCache.getImageResource(2, 0, nyanCatSpriteSheet),
+            resourceCache.getImageResource(3, 0, nyanCatSpriteSheet),
+            resourceCache.getImageResource(4, 0, nyanCatSpriteSheet),
+            resourceCache.getImageResource(5, 0, nyanCatSpriteSheet)
         );
         List<Resource> catResourcesLeft = ImmutableList.of(
-            resourceFactory.createImageResource(resourceFactory.createSpriteResource(0, 1, nyanCatSpriteSheet)),
-            resourceFactory.createImageResource(resourceFactory.createSpriteResource(1, 1, nyanCatSpriteSheet)),
-            resourceFactory.createImageResource(resourceFactory.createSpriteResource(2, 1, nyanCatSpriteSheet)),
-            resourceFactory.createImageResource(resourceFactory.createSpriteResource(3, 1, nyanCatSpriteSheet)),
-            resourceFactory.createImageResource(resourceFactory.createSpriteResource(4, 1, nyanCatSpriteSheet)),
-            resourceFactory.createImageResource(resourceFactory.createSpriteResource(5, 1, nyanCatSpriteSheet))
+            resourceCache.getImageResource(0, 1, nyanCatSpriteSheet),
+            resourceCache.getImageResource(1, 1, nyanCatSpriteSheet),
+            resourceCache.getImageResource(2, 1, nyanCatSpriteSheet),
+            resourceCache.getImageResource(3, 1, nyanCatSpriteSheet),
+            resourceCache.getImageResource(4, 1, nyanCatSpriteSheet),
+            resourceCache.getImageResource(5, 1, nyanCatSpriteSheet)
         );
 
         // register resources
@@ -399,35 +786,62 @@ public class GameObjectsHandler {
         return gameObject;
     }
 
-    private GameObjectManager generateLevelOneElements() throws TransientGameException {
-        // init game object manager
-        GameObjectManager gameObjectManager = GameObjectManager.create(((Rectangle) kernelState.getProperty(KernelStatePropertyEnum.SCREEN_BOUNDS)).height);
+    private GameObjectManager generateLevelOneElements(GameObjectManager commonManager) throws TransientGameException {
+        // level objects reference the common cat character, resolved before this build was submitted
+        GameObject catCharacter = commonManager.get(gameObjects.get(GameObjectHandle.CAT_CHARACTER.ordinal()).id);
+
+        // init game object manager, a layer per world row so objects anywhere in the world y-sort
+        Rectangle worldBounds = getWorldBounds();
+        GameObjectManager gameObjectManager = GameObjectManager.create(worldBounds.height);
 
         // dynamically generate grass background
         generateGrassBGGameObjects(gameObjectManager);
 
+        // decode the entry effect up front, owned by level one so unloading it frees the pcm
+        PcmCache.getInstance().preload(LEVEL_ONE_ENTRY_SOUND_FILE);
+
+        // index level objects by world position, the cat character being the only one that moves on its own
+        SpatialGrid spatialIndex = new SpatialGrid(worldBounds, SPATIAL_INDEX_CELL_SIZE);
+        spatialIndex.add(catCharacter, true);
+
         // dynamically generate bushes
-        generateBushGameObjects(gameObjectManager);
+        generateBushGameObjects(gameObjectManager, spatialIndex, catCharacter);
+
+        spatialIndexes.put(GameObjectManagerHandle.L1, spatialIndex);
+
+        // layer moving characters by their y position, bushes already being layered by theirs
+        ySortedLayerings.put(
+            GameObjectManagerHandle.L1,
+            new YSortedLayering().track(catCharacter)
+        );
+
+        // repaint bushes as they change cel or are recycled, the grass backdrop never changes
+        if (dirtyRegionsTracked) {
+            DirtyRegionTracker dirtyRegionTracker = new DirtyRegionTracker((Rectangle) kernelState.getProperty(KernelStatePropertyEnum.SCREEN_BOUNDS));
+            bushField.trackDirtyRegions(dirtyRegionTracker, BUSH_CEL_WIDTH, BUSH_CEL_HEIGHT);
+            dirtyRegionTrackers.put(GameObjectManagerHandle.L1, dirtyRegionTracker);
+        }
 
         return gameObjectManager;
     }
 
     private void generateGrassBGGameObjects(GameObjectManager gameObjectManager) throws TransientGameException {
-        // generate sprite sheet
-        SpriteSheet grassBGSpriteSheet = resourceFactory.createSpriteSheet("grass_bg.png", 1950, 2);
+        // setup
+        Rectangle screenBounds = (Rectangle) kernelState.getProperty(KernelStatePropertyEnum.SCREEN_BOUNDS);
 
-        // generate resources
-        Resource grassBGResourceGreen = resourceFactory.createSpriteResource(0, 0, grassBGSpriteSheet);
-        Resource grassBGResourceBrown = resourceFactory.createSpriteResource(0, 1, grassBGSpriteSheet);
+        // generate sprite sheet, pre-composed from the alternating green/brown 2px stripes of grass_bg.png
+        SpriteSheet grassBGSpriteSheet = resourceCache.getSpriteSheet(
+            "grass_bg_tiled.png",
+            GRASS_BG_TILE_WIDTH, GRASS_BG_TILE_HEIGHT
+        );
+
+        // generate resource
+        Resource grassBGResource = resourceCache.getSpriteResource(0, 0, grassBGSpriteSheet);
 
-        // generate game objects
-        for (Integer i = 0; i < ((Rectangle) kernelState.getProperty(KernelStatePropertyEnum.SCREEN_BOUNDS)).height / 2; i++) {
+        // generate game objects, a single tile unless the screen is taller than the pre-composed backdrop
+        for (Integer i = 0; i * GRASS_BG_TILE_HEIGHT < screenBounds.height; i++) {
             // generate game object
-            GameObject gameObject = generateGrassBGGameObject(
-                gameObjectManager,
-                i % 2 == 0 ? grassBGResourceGreen : grassBGResourceBrown,
-                i
-            );
+            GameObject gameObject = generateGrassBGGameObject(gameObjectManager, grassBGResource, i);
 
             // add game object
             gameObjectManager.add(gameObject);
@@ -439,7 +853,7 @@ public class GameObjectsHandler {
         GameObject gameObject = gameObjectManager.createGameObject();
 
         // register render properties
-        gameObject.registerFeature(Renderable.create(new Point(0, yIndex * 2), 0));
+        gameObject.registerFeature(Renderable.create(new Point(0, yIndex * GRASS_BG_TILE_HEIGHT), 0));
 
         // register resources
         gameObject.registerFeature(ResourceLibrary.create().add(resource));
@@ -447,89 +861,88 @@ public class GameObjectsHandler {
         return gameObject;
     }
 
-    private void generateBushGameObjects(GameObjectManager gameObjectManager) throws TransientGameException {
-        // generate sprite sheet
-        SpriteSheet spriteSheet = resourceFactory.createSpriteSheet("bush_sprite_sheet.png", 18, 19, 1);
-
-        // generate game objects
-        for (Integer i = 0; i < 1000; i++) {
-            // generate game object
-            GameObject gameObject = generateBushObject(gameObjectManager, spriteSheet);
-
-            // add game object
-            gameObjectManager.add(gameObject);
-        }
-    }
-
-    private GameObject generateBushObject(GameObjectManager gameObjectManager, SpriteSheet bushSpriteSheet)
-            throws TransientGameException {
+    private void generateBushGameObjects(GameObjectManager gameObjectManager, SpatialGrid spatialIndex, GameObject catCharacter)
+                 throws TransientGameException {
         // setup
         Rectangle screenBounds = (Rectangle) kernelState.getProperty(KernelStatePropertyEnum.SCREEN_BOUNDS);
-        Integer x = randomGenerator.nextInt(screenBounds.width);
-        Integer y = randomGenerator.nextInt(screenBounds.height);
-        Integer animationKey = randomGenerator.nextInt(3);
 
-        // generate game object
-        GameObject bush = gameObjectManager.createGameObject();
+        // stream bushes around the cat character when a world larger than the screen was asked for
+        if (isWorldStreamed()) {
+            Rectangle worldBounds = getWorldBounds();
+            bushField = new BushField(
+                BushFieldStreamer.getSlotCount(worldBounds, screenBounds) * BushFieldStreamer.BUSHES_PER_CHUNK,
+                BushFieldStreamer.BUSHES_PER_CHUNK,
+                getBushCels()
+            );
+            bushFieldStreamer = new BushFieldStreamer(
+                bushField, gameObjectManager, spatialIndex, worldGenerator,
+                catCharacter.getFeature(Renderable.class),
+                worldBounds, screenBounds
+            );
+            bushFieldStreamer.update();
 
-        // register render properties
-        bush.registerFeature(
-            Renderable.create(new Point(x, y), y)
-        );
+            return;
+        }
 
-        // generate resources
-        Resource bushLeftResource = resourceFactory.createSpriteResource(0, 0, bushSpriteSheet);
-        Resource bushCenterResource = resourceFactory.createSpriteResource(1, 0, bushSpriteSheet);
-        Resource bushRightResource = resourceFactory.createSpriteResource(2, 0, bushSpriteSheet);
-
-        // generate current resource + animation cel
-        String currentCel;
-        switch (animationKey) {
-            case 0:
-                currentCel = bushLeftResource.getId();
-                break;
-            case 1:
-                currentCel = bushRightResource.getId();
-                break;
-            case 2:
-            default:
-                PRINTER.printWarning("Animation key miss on random generation... [" + animationKey + "]");
-                currentCel = bushCenterResource.getId();
-                break;
+        // load bush instances from the compiled scene, unless a procedural count was asked for
+        if (bushCount == null) {
+            List<BushField> fields = SceneLoader.getInstance().load(LEVEL_ONE_SCENE, screenBounds);
+            if (fields.size() != 1) {
+                throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+            }
+            bushField = fields.get(0);
+        } else {
+            bushField = generateBushField(screenBounds);
         }
 
-        // register resources
-        bush.registerFeature(
-            ResourceLibrary.create().add(
-                bushLeftResource
-            ).add(
-                bushCenterResource
-            ).add(
-                bushRightResource
-            ).setCurrent(
-                currentCel
-            )
-        );
+        // bind bush instances to game objects
+        bushField.materialize(gameObjectManager);
+        for (int i = 0; i < bushField.getSize(); i++) {
+            spatialIndex.add(bushField.getGameObject(i), false);
+        }
+    }
 
-        // generate animation
-        AnimationSequence animation = AnimationFactory.getInstance().createAnimationSequence(
-            (randomGenerator.nextInt(3) + 2) * 100L
-        ).addCel(
-            bushLeftResource.getId()
-        ).addCel(
-            bushCenterResource.getId()
-        ).addCel(
-            bushRightResource.getId()
-        ).setCurrentCel(
-            currentCel
-        ).play();
+    private List<Resource> getBushCels() throws TransientGameException {
+        // generate sprite sheet
+        SpriteSheet spriteSheet = resourceCache.getSpriteSheet("bush_sprite_sheet.png", BUSH_CEL_WIDTH, BUSH_CEL_HEIGHT, 1);
 
-        // register animation
-        bush.registerFeature(
-            AnimationSequenceLibrary.create().add(animation)
+        // fetch shared resources
+        return ImmutableList.of(
+            resourceCache.getSpriteResource(0, 0, spriteSheet),
+            resourceCache.getSpriteResource(1, 0, spriteSheet),
+            resourceCache.getSpriteResource(2, 0, spriteSheet)
         );
+    }
+
+    private BushField generateBushField(Rectangle screenBounds) throws TransientGameException {
+        // fetch shared resources
+        List<Resource> cels = getBushCels();
+
+        // generate bush instances a field chunk at a time, each chunk from its own seeded stream
+        int chunkCount = (bushCount + BushField.DEFAULT_CHUNK_SIZE - 1) / BushField.DEFAULT_CHUNK_SIZE;
+        List<long[]> chunks = worldGenerator.generate(chunkCount, (chunkKey, random) -> {
+            int chunkSize = Math.min(BushField.DEFAULT_CHUNK_SIZE, bushCount - (int) chunkKey * BushField.DEFAULT_CHUNK_SIZE);
+            long[] instances = new long[chunkSize * 4];
+            for (int i = 0; i < instances.length; i += 4) {
+                instances[i] = random.nextInt(screenBounds.width);
+                instances[i + 1] = random.nextInt(screenBounds.height);
+                instances[i + 2] = random.nextInt(cels.size());
+                instances[i + 3] = (random.nextInt(3) + 2) * 100L;
+            }
+
+            return instances;
+        });
+
+        // add in chunk order, so the same seed always yields the same field
+        BushField generatedBushField = new BushField(bushCount, cels);
+        for (long[] instances : chunks) {
+            for (int i = 0; i < instances.length; i += 4) {
+                int y = (int) instances[i + 1];
+                generatedBushField.add((int) instances[i], y, y, (int) instances[i + 2], instances[i + 3]);
+            }
+        }
 
-        return bush;
+        return generatedBushField;
     }
 
     private GameObjectManager generateStartScreenElements() throws TransientGameException {
@@ -616,6 +1029,18 @@ public class GameObjectsHandler {
             GameObjectHandle.START_SCREEN_INS2, instructions2.getId(), gameObjectManager.getId()
         );
 
+        // repaint only the animated cat host and title, the backdrop, subtitle and instructions never change
+        if (dirtyRegionsTracked) {
+            dirtyRegionTrackers.put(
+                GameObjectManagerHandle.START_SCREEN,
+                new DirtyRegionTracker(screenBounds).track(
+                    catHost, GameObjectBuilder.CAT_HOST_CEL_WIDTH, GameObjectBuilder.CAT_HOST_CEL_HEIGHT, true
+                ).track(
+                    title, TITLE_CEL_WIDTH, TITLE_CEL_HEIGHT, true
+                )
+            );
+        }
+
         return gameObjectManager;
     }
 
@@ -629,18 +1054,18 @@ public class GameObjectsHandler {
         );
 
         // generate sprite sheet
-        SpriteSheet spriteSheet = resourceFactory.createSpriteSheet("pixelcat_title_sprite_sheet.png", 190, 80, 0, 0, 0, 5);
+        SpriteSheet spriteSheet = resourceCache.getSpriteSheet("pixelcat_title_sprite_sheet.png", TITLE_CEL_WIDTH, TITLE_CEL_HEIGHT, 0, 0, 0, 5);
 
         // generate resources
         List<Resource> resources = ImmutableList.of(
-            resourceFactory.createSpriteResource(0, 0, spriteSheet),
-            resourceFactory.createSpriteResource(0, 1, spriteSheet),
-            resourceFactory.createSpriteResource(0, 2, spriteSheet),
-            resourceFactory.createSpriteResource(0, 3, spriteSheet),
-            resourceFactory.createSpriteResource(0, 4, spriteSheet),
-            resourceFactory.createSpriteResource(0, 5, spriteSheet),
-            resourceFactory.createSpriteResource(0, 6, spriteSheet),
-            resourceFactory.createSpriteResource(0, 7, spriteSheet)
+            resourceCache.getSpriteResource(0, 0, spriteSheet),
+            resourceCache.getSpriteResource(0, 1, spriteSheet),
+            resourceCache.getSpriteResource(0, 2, spriteSheet),
+            resourceCache.getSpriteResource(0, 3, spriteSheet),
+            resourceCache.getSpriteResource(0, 4, spriteSheet),
+            resourceCache.getSpriteResource(0, 5, spriteSheet),
+            resourceCache.getSpriteResource(0, 6, spriteSheet),
+            resourceCache.getSpriteResource(0, 7, spriteSheet)
         );
 
         // register resources
@@ -709,7 +1134,7 @@ public class GameObjectsHandler {
             )
         ).registerFeature(
             ResourceLibrary.create().add(
-                resourceFactory.createTextResource(text, font)
+                resourceCache.getTextResource(text, font)
             )
         );
 
@@ -0,0 +1,152 @@
+package info.masterfrog.pixelcat.demo.gameobject.animation;
+
+import info.masterfrog.pixelcat.engine.exception.GameErrorCode;
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+
+import java.util.Arrays;
+
+public class TimerWheel {
+    private long tickMillis;
+    private int mask;
+    private int[] slotHeads;
+    private int[] next;
+    private int[] slots;
+    private long[] deadlines;
+    private int[] walk;
+    private long currentTick;
+    private boolean started;
+
+    private static final int UNSCHEDULED = -1;
+    private static final int DETACHED = -2;
+    private static final int END = -1;
+
+    public interface Expiry {
+        void expire(int entry, long deadline, long time) throws TransientGameException;
+    }
+
+    public TimerWheel(Integer capacity, Long tickMillis, Integer slotCount) throws TransientGameException {
+        // validate, slot count must be a power of two so slots can be masked
+        if (capacity < 0 || tickMillis <= 0 || slotCount <= 0 || Integer.bitCount(slotCount) != 1) {
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        this.tickMillis = tickMillis;
+        this.mask = slotCount - 1;
+        this.slotHeads = new int[slotCount];
+        Arrays.fill(this.slotHeads, END);
+        this.next = new int[capacity];
+        this.slots = new int[capacity];
+        Arrays.fill(this.slots, UNSCHEDULED);
+        this.deadlines = new long[capacity];
+        this.walk = new int[capacity];
+        this.started = false;
+    }
+
+    public TimerWheel schedule(int entry, long deadline) {
+        // drop any earlier schedule
+        cancel(entry);
+
+        // never schedule into a tick already advanced past
+        long tick = deadline / tickMillis;
+        if (started && tick < currentTick) {
+            tick = currentTick;
+        }
+
+        // push onto the slot chain
+        int slot = (int) (tick & mask);
+        deadlines[entry] = deadline;
+        slots[entry] = slot;
+        next[entry] = slotHeads[slot];
+        slotHeads[slot] = entry;
+
+        return this;
+    }
+
+    public TimerWheel cancel(int entry) {
+        // validate
+        int slot = slots[entry];
+        if (slot == UNSCHEDULED) {
+            return this;
+        }
+
+        // entries detached by an advance in progress are just dropped from it
+        if (slot == DETACHED) {
+            slots[entry] = UNSCHEDULED;
+
+            return this;
+        }
+
+        // unlink from the slot chain
+        if (slotHeads[slot] == entry) {
+            slotHeads[slot] = next[entry];
+        } else {
+            int previous = slotHeads[slot];
+            while (next[previous] != entry) {
+                previous = next[previous];
+            }
+            next[previous] = next[entry];
+        }
+        slots[entry] = UNSCHEDULED;
+
+        return this;
+    }
+
+    public int advance(long time, Expiry expiry) throws TransientGameException {
+        // start from the first advanced tick
+        long tick = time / tickMillis;
+        if (!started) {
+            currentTick = tick;
+            started = true;
+        }
+
+        // visit only the slots passed since the last advance, a full turn at most, revisiting the
+        // last advanced tick as it may hold entries due later within it
+        int expired = 0;
+        long lastTick = Math.min(tick, currentTick + slotHeads.length - 1);
+        for (long visitedTick = currentTick; visitedTick <= lastTick; visitedTick++) {
+            currentTick = visitedTick;
+            int slot = (int) (visitedTick & mask);
+
+            // detach the chain into the walk buffer, so entries rescheduled by expiries cannot disturb the walk
+            int walkLength = 0;
+            for (int entry = slotHeads[slot]; entry != END; entry = next[entry]) {
+                slots[entry] = DETACHED;
+                walk[walkLength++] = entry;
+            }
+            slotHeads[slot] = END;
+
+            for (int i = 0; i < walkLength; i++) {
+                int entry = walk[i];
+
+                // skip entries cancelled or rescheduled while detached
+                if (slots[entry] != DETACHED) {
+                    continue;
+                }
+
+                // entries due later on, within this tick or on a later turn of the wheel, go back
+                if (deadlines[entry] > time) {
+                    slots[entry] = slot;
+                    next[entry] = slotHeads[slot];
+                    slotHeads[slot] = entry;
+                    continue;
+                }
+
+                // expire, which may reschedule the entry
+                slots[entry] = UNSCHEDULED;
+                expiry.expire(entry, deadlines[entry], time);
+                expired++;
+            }
+        }
+        currentTick = Math.max(currentTick, tick);
+
+        return expired;
+    }
+
+    public boolean isScheduled(int entry) {
+        return slots[entry] != UNSCHEDULED;
+    }
+
+    public long getDeadline(int entry) {
+        return deadlines[entry];
+    }
+}
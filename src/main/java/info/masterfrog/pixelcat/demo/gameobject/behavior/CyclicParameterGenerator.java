@@ -0,0 +1,62 @@
+package info.masterfrog.pixelcat.demo.gameobject.behavior;
+
+import com.google.common.collect.ImmutableList;
+import info.masterfrog.pixelcat.engine.exception.GameErrorCode;
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.logic.gameobject.behavior.BehaviorParameter;
+import info.masterfrog.pixelcat.engine.logic.gameobject.behavior.BehaviorParameterFactory;
+import info.masterfrog.pixelcat.engine.logic.gameobject.behavior.BehaviorParameterGeneratorDefinition;
+import info.masterfrog.pixelcat.engine.logic.gameobject.behavior.BehaviorParameterId;
+
+public class CyclicParameterGenerator {
+    private BehaviorParameterId[] parameters;
+    private int index;
+
+    public CyclicParameterGenerator(BehaviorParameterId... parameters) throws TransientGameException {
+        // validate
+        if (parameters.length == 0) {
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        this.parameters = parameters.clone();
+        this.index = 0;
+    }
+
+    public static CyclicParameterGenerator ofIds(String... ids) throws TransientGameException {
+        // build every id parameter up front so cycling hands out the same instances
+        BehaviorParameterId[] parameters = new BehaviorParameterId[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            parameters[i] = BehaviorParameterFactory.getInstance().createIdParameter(ids[i]);
+        }
+
+        return new CyclicParameterGenerator(parameters);
+    }
+
+    public BehaviorParameterId next() {
+        // hand out the current parameter and advance, wrapping at the end
+        BehaviorParameterId parameter = parameters[index];
+        index = index + 1 == parameters.length ? 0 : index + 1;
+
+        return parameter;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public CyclicParameterGenerator reset() {
+        index = 0;
+
+        return this;
+    }
+
+    public BehaviorParameter toBehaviorParameter() {
+        // generate the next id parameter on every trigger, as the camera switch selector did before
+        BehaviorParameterGeneratorDefinition selector = (inputs) -> next();
+
+        return BehaviorParameterFactory.getInstance().createBehaviorParameterGenerator(
+            selector,
+            ImmutableList.of()
+        );
+    }
+}
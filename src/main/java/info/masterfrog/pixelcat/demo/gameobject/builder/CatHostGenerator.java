@@ -2,6 +2,8 @@ package info.masterfrog.pixelcat.demo.gameobject.builder;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import info.masterfrog.pixelcat.demo.gameobject.behavior.CyclicParameterGenerator;
+import info.masterfrog.pixelcat.demo.resource.ResourceCache;
 import info.masterfrog.pixelcat.engine.common.printer.Printer;
 import info.masterfrog.pixelcat.engine.common.printer.PrinterFactory;
 import info.masterfrog.pixelcat.engine.exception.TransientGameException;
@@ -14,7 +16,6 @@ import info.masterfrog.pixelcat.engine.logic.gameobject.GameObjectManager;
 import info.masterfrog.pixelcat.engine.logic.gameobject.behavior.*;
 import info.masterfrog.pixelcat.engine.logic.gameobject.feature.*;
 import info.masterfrog.pixelcat.engine.logic.resource.Resource;
-import info.masterfrog.pixelcat.engine.logic.resource.ResourceFactory;
 import info.masterfrog.pixelcat.engine.logic.resource.SoundResource;
 import info.masterfrog.pixelcat.engine.logic.resource.SpriteSheet;
 
@@ -32,11 +33,14 @@ class CatHostGenerator {
     private Map<String, SoundResource> soundMap = new HashMap<>();
     private Map<String, BehaviorBinding> behaviorBindingMap = new HashMap<>();
 
-    private static ResourceFactory resourceFactory = ResourceFactory.getInstance();
+    private static ResourceCache resourceCache = ResourceCache.getInstance();
     private static AnimationFactory animationFactory = AnimationFactory.getInstance();
 
     private static Printer PRINTER = PrinterFactory.getInstance().createPrinter(CatHostGenerator.class);
 
+    private static final int SPRITE_SCALE = 4;
+    static final int CEL_WIDTH = 16 * SPRITE_SCALE;
+    static final int CEL_HEIGHT = 14 * SPRITE_SCALE;
     private static final String CAT_HOST_RESOURCES_BACK = "RESOURCE_BACK";
     private static final String CAT_HOST_RESOURCES_LEFT = "RESOURCE_LEFT";
     private static final String CAT_HOST_RESOURCES_RIGHT = "RESOURCE_RIGHT";
@@ -47,6 +51,7 @@ class CatHostGenerator {
     private static final String CAT_HOST_CAMERA_LEFT = "CAMERA_LEFT";
     private static final String CAT_HOST_CAMERA_RIGHT = "CAMERA_RIGHT";
     private static final String CAT_HOST_SOUND_BOSS_BATTLE_MUSIC = "BOSS_BATTLE_MUSIC";
+    private static final String CAT_HOST_SOUND_BOSS_BATTLE_MUSIC_FILE = "zelda-boss-battle.ogg";
     private static final String CAT_HOST_BEHAVIOR_BINDING_ANIMATION_PLAY = "ANIMATION_PLAY";
     private static final String CAT_HOST_BEHAVIOR_BINDING_ANIMATION_STOP = "ANIMATION_STOP";
     private static final String CAT_HOST_BEHAVIOR_BINDING_CAMERA_STATE = "CAMERA_STATE";
@@ -61,7 +66,7 @@ class CatHostGenerator {
     CatHostGenerator generate() throws TransientGameException {
         // register rendering properties
         gameObject.registerFeature(
-            Renderable.create(new Point(screenBounds.width / 2 - 94, screenBounds.height / 2 - 258), 1, 4.0)
+            Renderable.create(new Point(screenBounds.width / 2 - 94, screenBounds.height / 2 - 258), 1)
         );
 
         // define resources
@@ -92,10 +97,10 @@ class CatHostGenerator {
     }
 
     private Map<String, List<Resource>> defineResources() throws TransientGameException {
-        // generate sprite sheet
-        SpriteSheet pixelCatSpriteSheet = resourceFactory.createSpriteSheet(
-            "pixel-cat-sprite-sheet-16px-by-14px-cells.png",
-            16, 14,
+        // generate sprite sheet, pre-scaled at build time so it renders as a plain blit
+        SpriteSheet pixelCatSpriteSheet = resourceCache.getSpriteSheet(
+            "pixel-cat-sprite-sheet-16px-by-14px-cells-4x.png",
+            CEL_WIDTH, CEL_HEIGHT,
             0, 0, 0, 0
         );
 
@@ -103,40 +108,40 @@ class CatHostGenerator {
         resourceMap.put(
             CAT_HOST_RESOURCES_BACK,
             ImmutableList.of(
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(0, 0, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(1, 0, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(2, 0, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(3, 0, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(4, 0, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(5, 0, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(6, 0, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(7, 0, pixelCatSpriteSheet))
+                resourceCache.getImageResource(0, 0, pixelCatSpriteSheet),
+                resourceCache.getImageResource(1, 0, pixelCatSpriteSheet),
+                resourceCache.getImageResource(2, 0, pixelCatSpriteSheet),
+                resourceCache.getImageResource(3, 0, pixelCatSpriteSheet),
+                resourceCache.getImageResource(4, 0, pixelCatSpriteSheet),
+                resourceCache.getImageResource(5, 0, pixelCatSpriteSheet),
+                resourceCache.getImageResource(6, 0, pixelCatSpriteSheet),
+                resourceCache.getImageResource(7, 0, pixelCatSpriteSheet)
             )
         );
         resourceMap.put(
             CAT_HOST_RESOURCES_LEFT,
             ImmutableList.of(
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(0, 1, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(1, 1, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(2, 1, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(3, 1, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(4, 1, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(5, 1, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(6, 1, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(7, 1, pixelCatSpriteSheet))
+                resourceCache.getImageResource(0, 1, pixelCatSpriteSheet),
+                resourceCache.getImageResource(1, 1, pixelCatSpriteSheet),
+                resourceCache.getImageResource(2, 1, pixelCatSpriteSheet),
+                resourceCache.getImageResource(3, 1, pixelCatSpriteSheet),
+                resourceCache.getImageResource(4, 1, pixelCatSpriteSheet),
+                resourceCache.getImageResource(5, 1, pixelCatSpriteSheet),
+                resourceCache.getImageResource(6, 1, pixelCatSpriteSheet),
+                resourceCache.getImageResource(7, 1, pixelCatSpriteSheet)
             )
         );
         resourceMap.put(
             CAT_HOST_RESOURCES_RIGHT,
             ImmutableList.of(
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(0, 2, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(1, 2, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(2, 2, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(3, 2, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(4, 2, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(5, 2, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(6, 2, pixelCatSpriteSheet)),
-                resourceFactory.createImageResource(resourceFactory.createSpriteResource(7, 2, pixelCatSpriteSheet))
+                resourceCache.getImageResource(0, 2, pixelCatSpriteSheet),
+                resourceCache.getImageResource(1, 2, pixelCatSpriteSheet),
+                resourceCache.getImageResource(2, 2, pixelCatSpriteSheet),
+                resourceCache.getImageResource(3, 2, pixelCatSpriteSheet),
+                resourceCache.getImageResource(4, 2, pixelCatSpriteSheet),
+                resourceCache.getImageResource(5, 2, pixelCatSpriteSheet),
+                resourceCache.getImageResource(6, 2, pixelCatSpriteSheet),
+                resourceCache.getImageResource(7, 2, pixelCatSpriteSheet)
             )
         );
 
@@ -207,7 +212,7 @@ class CatHostGenerator {
 
     private Map<String, SoundResource> defineSounds() throws TransientGameException {
         // define sounds
-        soundMap.put(CAT_HOST_SOUND_BOSS_BATTLE_MUSIC, resourceFactory.createSoundResource("zelda-boss-battle.ogg"));
+        soundMap.put(CAT_HOST_SOUND_BOSS_BATTLE_MUSIC, resourceCache.getSoundResource(CAT_HOST_SOUND_BOSS_BATTLE_MUSIC_FILE));
 
         // register sounds
         gameObject.registerFeature(
@@ -220,24 +225,12 @@ class CatHostGenerator {
     }
 
     private Map<String, BehaviorBinding> defineBehaviorBindings() throws TransientGameException {
-        // define logic-based behavior for camera switch
-        ContainedValue orientation = new ContainedValue("back");
-        BehaviorParameterGeneratorDefinition cameraSwitchTargetSelector = (inputs) -> {
-            orientation.set(orientation.get().equals("back") ? "left" : orientation.get().equals("left") ? "right" : "back");
-            String cameraId =
-                orientation.get().equals("back") ?
-                    cameraMap.get(CAT_HOST_CAMERA_LEFT).getId() :
-                    orientation.get().equals("left") ?
-                        cameraMap.get(CAT_HOST_CAMERA_RIGHT).getId() :
-                        cameraMap.get(CAT_HOST_CAMERA_BACK).getId();
-            BehaviorParameterId cameraParameter = BehaviorParameterFactory.getInstance().createIdParameter(cameraId);
-
-            return cameraParameter;
-        };
-        BehaviorParameter cameraSwitchTarget = BehaviorParameterFactory.getInstance().createBehaviorParameterGenerator(
-            cameraSwitchTargetSelector,
-            ImmutableList.of()
-        );
+        // define camera switch cycle, handing out the same precomputed id parameters on every trigger
+        BehaviorParameter cameraSwitchTarget = CyclicParameterGenerator.ofIds(
+            cameraMap.get(CAT_HOST_CAMERA_RIGHT).getId(),
+            cameraMap.get(CAT_HOST_CAMERA_BACK).getId(),
+            cameraMap.get(CAT_HOST_CAMERA_LEFT).getId()
+        ).toBehaviorParameter();
 
         // define hid event behavior bindings
         behaviorBindingMap.put(
@@ -290,25 +283,4 @@ class CatHostGenerator {
 
         return behaviorBindingMap;
     }
-
-    private class ContainedValue {
-        private Object value;
-
-        ContainedValue(Object value) {
-            this.value = value;
-        }
-
-        Object get() {
-            return value;
-        }
-
-        void set(Object value) {
-            this.value = value;
-        }
-
-        @Override
-        public String toString() {
-            return "" + value;
-        }
-    }
 }
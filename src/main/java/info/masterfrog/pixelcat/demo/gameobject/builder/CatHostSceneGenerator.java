@@ -1,6 +1,7 @@
 package info.masterfrog.pixelcat.demo.gameobject.builder;
 
 import com.google.common.collect.ImmutableList;
+import info.masterfrog.pixelcat.demo.resource.ResourceCache;
 import info.masterfrog.pixelcat.engine.common.printer.Printer;
 import info.masterfrog.pixelcat.engine.common.printer.PrinterFactory;
 import info.masterfrog.pixelcat.engine.exception.TransientGameException;
@@ -9,7 +10,6 @@ import info.masterfrog.pixelcat.engine.logic.gameobject.GameObjectManager;
 import info.masterfrog.pixelcat.engine.logic.gameobject.feature.Renderable;
 import info.masterfrog.pixelcat.engine.logic.gameobject.feature.ResourceLibrary;
 import info.masterfrog.pixelcat.engine.logic.resource.Resource;
-import info.masterfrog.pixelcat.engine.logic.resource.ResourceFactory;
 import info.masterfrog.pixelcat.engine.logic.resource.SpriteSheet;
 
 import java.awt.*;
@@ -19,32 +19,34 @@ class CatHostSceneGenerator {
     private GameObject gameObject;
     private Rectangle screenBounds;
 
-    private static ResourceFactory resourceFactory = ResourceFactory.getInstance();
+    private static ResourceCache resourceCache = ResourceCache.getInstance();
     private static Printer PRINTER = PrinterFactory.getInstance().createPrinter(CatHostSceneGenerator.class);
 
+    private static final int SPRITE_SCALE = 4;
+
     CatHostSceneGenerator(GameObjectManager gameObjectManager, Rectangle screenBounds) throws TransientGameException {
         this.gameObject = gameObjectManager.createGameObject();
         this.screenBounds = screenBounds;
     }
 
     CatHostSceneGenerator generate() throws TransientGameException {
-        // generate sprite sheet
-        SpriteSheet pixelCatSceneSpriteSheet = resourceFactory.createSpriteSheet(
-            "pixel-cat-background-sprite-sheet-32px-by-32px-cells.png",
-            32, 32,
+        // generate sprite sheet, pre-scaled at build time so it renders as a plain blit
+        SpriteSheet pixelCatSceneSpriteSheet = resourceCache.getSpriteSheet(
+            "pixel-cat-background-sprite-sheet-32px-by-32px-cells-4x.png",
+            32 * SPRITE_SCALE, 32 * SPRITE_SCALE,
             0, 0, 0, 0
         );
 
         // register rendering properties
         gameObject.registerFeature(
-            Renderable.create(new Point(screenBounds.width / 2 - 95, screenBounds.height / 2 - 278), 0, 4.0)
+            Renderable.create(new Point(screenBounds.width / 2 - 95, screenBounds.height / 2 - 278), 0)
         );
 
         // define resources
         List<Resource> pixelCatScene = ImmutableList.of(
-            resourceFactory.createImageResource(resourceFactory.createSpriteResource(0, 0, pixelCatSceneSpriteSheet)),
-            resourceFactory.createImageResource(resourceFactory.createSpriteResource(0, 1, pixelCatSceneSpriteSheet)),
-            resourceFactory.createImageResource(resourceFactory.createSpriteResource(0, 2, pixelCatSceneSpriteSheet))
+            resourceCache.getImageResource(0, 0, pixelCatSceneSpriteSheet),
+            resourceCache.getImageResource(0, 1, pixelCatSceneSpriteSheet),
+            resourceCache.getImageResource(0, 2, pixelCatSceneSpriteSheet)
         );
 
         // register resources
@@ -12,6 +12,9 @@ public class GameObjectBuilder {
     private GameObjectManager gameObjectManager;
     private Rectangle screenBounds;
 
+    public static final int CAT_HOST_CEL_WIDTH = CatHostGenerator.CEL_WIDTH;
+    public static final int CAT_HOST_CEL_HEIGHT = CatHostGenerator.CEL_HEIGHT;
+
     private GameObjectBuilder(GameObjectManager gameObjectManager, Rectangle screenBounds) {
         this.gameObjectManager = gameObjectManager;
         this.screenBounds = screenBounds;
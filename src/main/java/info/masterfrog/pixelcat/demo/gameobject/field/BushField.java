@@ -0,0 +1,301 @@
+package info.masterfrog.pixelcat.demo.gameobject.field;
+
+import info.masterfrog.pixelcat.demo.gameobject.animation.TimerWheel;
+import info.masterfrog.pixelcat.demo.gameobject.render.DirtyRegionTracker;
+import info.masterfrog.pixelcat.engine.exception.GameErrorCode;
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObject;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObjectManager;
+import info.masterfrog.pixelcat.engine.logic.gameobject.feature.Renderable;
+import info.masterfrog.pixelcat.engine.logic.gameobject.feature.ResourceLibrary;
+import info.masterfrog.pixelcat.engine.logic.resource.Resource;
+
+import java.awt.*;
+import java.util.List;
+
+public class BushField {
+    private int size;
+    private int[] cel;
+    private long[] period;
+    private TimerWheel[] animationClocks;
+    private TimerWheel.Expiry[] celAdvances;
+    private long[] lastTimes;
+    private boolean[] started;
+    private Renderable[] renderables;
+    private ResourceLibrary[] resourceLibraries;
+    private GameObject[] gameObjects;
+    private Resource[] cels;
+    private String[] celIds;
+    private int chunkSize;
+    private DirtyRegionTracker dirtyRegionTracker;
+    private int celWidth;
+    private int celHeight;
+    private int[][] changedInstances;
+    private int[] changedCounts;
+    private boolean[] changesOverflowed;
+
+    // instances are animated in fixed-size chunks, each on its own clock, so chunks can advance independently
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+    // 10ms ticks over 64 slots span 640ms, so every period up to that is due on its first visit
+    private static final long ANIMATION_CLOCK_TICK_MILLIS = 10L;
+    private static final int ANIMATION_CLOCK_SLOTS = 64;
+
+    public BushField(Integer capacity, List<Resource> cels) throws TransientGameException {
+        this(capacity, DEFAULT_CHUNK_SIZE, cels);
+    }
+
+    public BushField(Integer capacity, Integer chunkSize, List<Resource> cels) throws TransientGameException {
+        // validate
+        if (chunkSize <= 0) {
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        this.size = 0;
+        this.chunkSize = chunkSize;
+        this.cel = new int[capacity];
+        this.period = new long[capacity];
+        int chunkCount = (capacity + chunkSize - 1) / chunkSize;
+        this.animationClocks = new TimerWheel[chunkCount];
+        this.celAdvances = new TimerWheel.Expiry[chunkCount];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int offset = chunk * chunkSize;
+            this.animationClocks[chunk] = new TimerWheel(Math.min(chunkSize, capacity - offset), ANIMATION_CLOCK_TICK_MILLIS, ANIMATION_CLOCK_SLOTS);
+            this.celAdvances[chunk] = (entry, deadline, time) -> advanceCel(offset + entry, deadline, time);
+        }
+        this.lastTimes = new long[chunkCount];
+        this.started = new boolean[chunkCount];
+        this.renderables = new Renderable[capacity];
+        this.resourceLibraries = new ResourceLibrary[capacity];
+        this.gameObjects = new GameObject[capacity];
+        this.cels = cels.toArray(new Resource[cels.size()]);
+        this.celIds = new String[cels.size()];
+        for (int i = 0; i < cels.size(); i++) {
+            this.celIds[i] = cels.get(i).getId();
+        }
+    }
+
+    public int add(int x, int y, int layer, int cel, long period) throws TransientGameException {
+        // validate
+        if (size == renderables.length || cel < 0 || cel >= celIds.length || period <= 0) {
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        // generate resource library holding the shared cels
+        ResourceLibrary resourceLibrary = ResourceLibrary.create();
+        for (Resource resource : cels) {
+            resourceLibrary.add(resource);
+        }
+        resourceLibrary.setCurrent(celIds[cel]);
+
+        // store instance, its position and layer living in the renderable its game object is later bound to
+        this.renderables[size] = Renderable.create(new Point(x, y), layer);
+        this.resourceLibraries[size] = resourceLibrary;
+        this.cel[size] = cel;
+        this.period[size] = period;
+
+        // instances added once animating join on the clock straight away
+        int chunk = size / chunkSize;
+        if (started[chunk]) {
+            animationClocks[chunk].schedule(size % chunkSize, lastTimes[chunk] + period);
+        }
+
+        return size++;
+    }
+
+    public BushField set(int index, int x, int y, int layer, int cel, long period) throws TransientGameException {
+        // validate
+        if (index < 0 || index >= size || cel < 0 || cel >= celIds.length || period <= 0) {
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        // repaint where the instance was
+        markDirty(index);
+
+        // replace instance, moving any bound game object along and so recycling it in place
+        renderables[index].getPosition().setLocation(x, y);
+        renderables[index].setLayer(layer);
+        resourceLibraries[index].setCurrent(celIds[cel]);
+        this.cel[index] = cel;
+        this.period[index] = period;
+
+        // repaint where it is now, then restart the instance's animation from the chunk's last tick
+        markDirty(index);
+        int chunk = index / chunkSize;
+        if (started[chunk]) {
+            animationClocks[chunk].schedule(index % chunkSize, lastTimes[chunk] + period);
+        }
+
+        return this;
+    }
+
+    public BushField materialize(GameObjectManager gameObjectManager) throws TransientGameException {
+        for (int i = 0; i < size; i++) {
+            // skip instances already bound to a game object
+            if (gameObjects[i] != null) {
+                continue;
+            }
+
+            // generate game object around the instance's renderable and resource library
+            GameObject gameObject = gameObjectManager.createGameObject();
+            gameObject.registerFeature(
+                renderables[i]
+            ).registerFeature(
+                resourceLibraries[i]
+            );
+
+            // add game object
+            gameObjectManager.add(gameObject);
+
+            // bind instance to its game object
+            gameObjects[i] = gameObject;
+        }
+
+        return this;
+    }
+
+    public int update(long time) throws TransientGameException {
+        int updated = 0;
+        for (int chunk = 0; chunk < animationClocks.length; chunk++) {
+            updated += updateChunk(chunk, time);
+        }
+        markChangedInstances();
+
+        return updated;
+    }
+
+    public int updateChunk(int chunk, long time) throws TransientGameException {
+        // schedule first cel change for every instance of the chunk on its first tick
+        TimerWheel animationClock = animationClocks[chunk];
+        lastTimes[chunk] = time;
+        if (!started[chunk]) {
+            int offset = chunk * chunkSize;
+            for (int i = offset; i < Math.min(size, offset + chunkSize); i++) {
+                animationClock.schedule(i - offset, time + period[i]);
+            }
+            animationClock.advance(time, celAdvances[chunk]);
+            started[chunk] = true;
+
+            return 0;
+        }
+
+        // advance only the instances whose next cel is due, chunks touch disjoint instances only
+        return animationClock.advance(time, celAdvances[chunk]);
+    }
+
+    private void advanceCel(int index, long deadline, long time) throws TransientGameException {
+        // show next cel
+        cel[index] = (cel[index] + 1) % celIds.length;
+        resourceLibraries[index].setCurrent(celIds[cel[index]]);
+        if (gameObjects[index] != null) {
+            recordChange(index);
+        }
+
+        // schedule following cel change, skipping any missed while stalled
+        animationClocks[index / chunkSize].schedule(index % chunkSize, Math.max(deadline + period[index], time + 1));
+    }
+
+    public BushField trackDirtyRegions(DirtyRegionTracker dirtyRegionTracker, int celWidth, int celHeight) {
+        this.dirtyRegionTracker = dirtyRegionTracker;
+        this.celWidth = celWidth;
+        this.celHeight = celHeight;
+
+        // chunks animate in parallel, so each records its own changed instances for marking once all are done
+        this.changedInstances = new int[animationClocks.length][];
+        for (int chunk = 0; chunk < animationClocks.length; chunk++) {
+            changedInstances[chunk] = new int[Math.min(chunkSize, renderables.length - chunk * chunkSize)];
+        }
+        this.changedCounts = new int[animationClocks.length];
+        this.changesOverflowed = new boolean[animationClocks.length];
+
+        return this;
+    }
+
+    public BushField markChangedInstances() {
+        // skip untracked fields
+        if (dirtyRegionTracker == null) {
+            return this;
+        }
+
+        // mark the cels changed since last time, called from the kernel thread once no chunk is updating
+        for (int chunk = 0; chunk < changedCounts.length; chunk++) {
+            int offset = chunk * chunkSize;
+            for (int i = 0; i < changedCounts[chunk]; i++) {
+                markDirty(offset + changedInstances[chunk][i]);
+            }
+            if (changesOverflowed[chunk]) {
+                dirtyRegionTracker.invalidate();
+            }
+            changedCounts[chunk] = 0;
+            changesOverflowed[chunk] = false;
+        }
+
+        return this;
+    }
+
+    private void recordChange(int index) {
+        // skip untracked fields
+        if (dirtyRegionTracker == null) {
+            return;
+        }
+
+        // an instance changes cel at most once per update, a full record meaning updates went unmarked
+        int chunk = index / chunkSize;
+        if (changedCounts[chunk] == changedInstances[chunk].length) {
+            changesOverflowed[chunk] = true;
+
+            return;
+        }
+        changedInstances[chunk][changedCounts[chunk]++] = index % chunkSize;
+    }
+
+    private void markDirty(int index) {
+        if (dirtyRegionTracker != null && gameObjects[index] != null) {
+            Point position = renderables[index].getPosition();
+            dirtyRegionTracker.mark(position.x, position.y, celWidth, celHeight);
+        }
+    }
+
+    public int getChunkCount() {
+        return animationClocks.length;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getCapacity() {
+        return renderables.length;
+    }
+
+    public int getCelCount() {
+        return celIds.length;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public GameObject getGameObject(int index) {
+        return gameObjects[index];
+    }
+
+    public int getX(int index) {
+        return renderables[index].getPosition().x;
+    }
+
+    public int getY(int index) {
+        return renderables[index].getPosition().y;
+    }
+
+    public int getLayer(int index) {
+        return renderables[index].getLayer();
+    }
+
+    public int getCel(int index) {
+        return cel[index];
+    }
+
+    public long getPeriod(int index) {
+        return period[index];
+    }
+}
@@ -0,0 +1,219 @@
+package info.masterfrog.pixelcat.demo.gameobject.field;
+
+import info.masterfrog.pixelcat.demo.gameobject.spatial.SpatialGrid;
+import info.masterfrog.pixelcat.demo.scene.WorldGenerator;
+import info.masterfrog.pixelcat.engine.exception.GameErrorCode;
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObjectManager;
+import info.masterfrog.pixelcat.engine.logic.gameobject.feature.Renderable;
+
+import java.awt.*;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// streams a world of square chunks of procedural bushes around a focus object, keeping resident the chunks a view
+// centred on the focus overlaps, each resident chunk occupying one fixed slot of bush field instances, least recently
+// visited chunks being recycled into the chunks newly in range, so game objects and per-frame work stay bounded by
+// the slot count
+public class BushFieldStreamer {
+    private BushField bushField;
+    private GameObjectManager gameObjectManager;
+    private SpatialGrid spatialIndex;
+    private WorldGenerator worldGenerator;
+    private Renderable focus;
+    private Rectangle worldBounds;
+    private int chunkPixels;
+    private int bushesPerChunk;
+    private Rectangle viewBounds;
+    private LinkedHashMap<Long, Integer> residentChunks;
+    private int slotCount;
+    private int usedSlots;
+    private int rangeMinColumn;
+    private int rangeMaxColumn;
+    private int rangeMinRow;
+    private int rangeMaxRow;
+    private boolean started;
+
+    public static final String WORLD_WIDTH_PROPERTY = "pixelcat.world.width";
+    public static final String WORLD_HEIGHT_PROPERTY = "pixelcat.world.height";
+    public static final String CHUNK_CACHE_PROPERTY = "pixelcat.world.chunkCache";
+    public static final int CHUNK_PIXELS = 256;
+    // close to the density of the level one scene
+    public static final int BUSHES_PER_CHUNK = 64;
+    private static final long[] PERIODS = {200L, 300L, 400L};
+
+    public BushFieldStreamer(
+        BushField bushField, GameObjectManager gameObjectManager, SpatialGrid spatialIndex, WorldGenerator worldGenerator,
+        Renderable focus, Rectangle worldBounds, Rectangle viewBounds
+    ) throws TransientGameException {
+        // validate, every slot being one bush field chunk
+        if (bushField.getSize() != 0 || bushField.getChunkSize() != BUSHES_PER_CHUNK) {
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        this.bushField = bushField;
+        this.gameObjectManager = gameObjectManager;
+        this.spatialIndex = spatialIndex;
+        this.worldGenerator = worldGenerator;
+        this.focus = focus;
+        this.worldBounds = new Rectangle(worldBounds);
+        this.chunkPixels = CHUNK_PIXELS;
+        this.bushesPerChunk = BUSHES_PER_CHUNK;
+
+        this.viewBounds = new Rectangle(viewBounds);
+        this.slotCount = bushField.getCapacity() / bushesPerChunk;
+        if (slotCount < Math.min(getRangeChunkCount(viewBounds), getWorldChunkCount(worldBounds))) {
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+        this.residentChunks = new LinkedHashMap<>(slotCount * 2, 0.75f, true);
+        this.usedSlots = 0;
+        this.started = false;
+    }
+
+    public static int getSlotCount(Rectangle worldBounds, Rectangle viewBounds) {
+        // the chunks a view can overlap plus one spare column and row by default, so moving back and forth across a
+        // chunk border does not recycle, never more than the world holds
+        int defaultSlotCount = (getChunkSpan(viewBounds.width) + 2) * (getChunkSpan(viewBounds.height) + 2);
+
+        return Math.min(
+            getWorldChunkCount(worldBounds),
+            Math.max(getRangeChunkCount(viewBounds), Integer.getInteger(CHUNK_CACHE_PROPERTY, defaultSlotCount))
+        );
+    }
+
+    private static int getRangeChunkCount(Rectangle viewBounds) {
+        // a view not aligned to the chunk grid overlaps one more chunk each way than its size spans
+        return (getChunkSpan(viewBounds.width) + 1) * (getChunkSpan(viewBounds.height) + 1);
+    }
+
+    private static int getWorldChunkCount(Rectangle worldBounds) {
+        return Math.max(1, getChunkSpan(worldBounds.width)) * Math.max(1, getChunkSpan(worldBounds.height));
+    }
+
+    private static int getChunkSpan(int pixels) {
+        return (pixels + CHUNK_PIXELS - 1) / CHUNK_PIXELS;
+    }
+
+    public int update() throws TransientGameException {
+        // determine the chunks overlapped by a view centred on the focus
+        Point position = focus.getPosition();
+        int viewX = position.x - viewBounds.width / 2 - worldBounds.x;
+        int viewY = position.y - viewBounds.height / 2 - worldBounds.y;
+        int minColumn = getColumn(viewX);
+        int maxColumn = getColumn(viewX + viewBounds.width - 1);
+        int minRow = getRow(viewY);
+        int maxRow = getRow(viewY + viewBounds.height - 1);
+
+        // nothing to stream until the view overlaps other chunks
+        if (started && minColumn == rangeMinColumn && maxColumn == rangeMaxColumn && minRow == rangeMinRow && maxRow == rangeMaxRow) {
+            return 0;
+        }
+        rangeMinColumn = minColumn;
+        rangeMaxColumn = maxColumn;
+        rangeMinRow = minRow;
+        rangeMaxRow = maxRow;
+        started = true;
+
+        // mark resident chunks in range as recently visited first, so none of them can be recycled below
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                residentChunks.get(WorldGenerator.getChunkKey(column, row));
+            }
+        }
+
+        // stream in the chunks now in range
+        int streamed = 0;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                long chunkKey = WorldGenerator.getChunkKey(column, row);
+                if (!residentChunks.containsKey(chunkKey)) {
+                    int slot = acquireSlot();
+                    streamed += load(column, row, slot);
+                    residentChunks.put(chunkKey, slot);
+                }
+            }
+        }
+
+        return streamed;
+    }
+
+    private int acquireSlot() {
+        // take a fresh slot while any are left, otherwise recycle the least recently visited chunk's
+        if (usedSlots < slotCount) {
+            return usedSlots++;
+        }
+        Iterator<Map.Entry<Long, Integer>> eldest = residentChunks.entrySet().iterator();
+        int slot = eldest.next().getValue();
+        eldest.remove();
+
+        return slot;
+    }
+
+    private int load(int column, int row, int slot) throws TransientGameException {
+        // generate the chunk's bushes from its own stream, identical on every visit
+        int originX = worldBounds.x + column * chunkPixels;
+        int originY = worldBounds.y + row * chunkPixels;
+        int width = Math.min(chunkPixels, worldBounds.x + worldBounds.width - originX);
+        int height = Math.min(chunkPixels, worldBounds.y + worldBounds.height - originY);
+        int celCount = bushField.getCelCount();
+        boolean fresh = slot * bushesPerChunk == bushField.getSize();
+        worldGenerator.generate(WorldGenerator.getChunkKey(column, row), (chunkKey, random) -> {
+            for (int i = 0; i < bushesPerChunk; i++) {
+                int x = originX + random.nextInt(width);
+                int y = originY + random.nextInt(height);
+                int cel = random.nextInt(celCount);
+                long period = PERIODS[random.nextInt(PERIODS.length)];
+                if (fresh) {
+                    bushField.add(x, y, y, cel, period);
+                } else {
+                    bushField.set(slot * bushesPerChunk + i, x, y, y, cel, period);
+                }
+            }
+
+            return bushesPerChunk;
+        });
+
+        // bind fresh instances to new game objects, recycled ones just change cell
+        if (fresh) {
+            bushField.materialize(gameObjectManager);
+            for (int i = slot * bushesPerChunk; i < (slot + 1) * bushesPerChunk; i++) {
+                spatialIndex.add(bushField.getGameObject(i), false);
+            }
+        } else {
+            for (int i = slot * bushesPerChunk; i < (slot + 1) * bushesPerChunk; i++) {
+                spatialIndex.move(bushField.getGameObject(i));
+            }
+        }
+
+        return bushesPerChunk;
+    }
+
+    public boolean isResident(int column, int row) {
+        return residentChunks.containsKey(WorldGenerator.getChunkKey(column, row));
+    }
+
+    public int getResidentChunkCount() {
+        return residentChunks.size();
+    }
+
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    private int getColumn(int x) {
+        return Math.min(getColumnCount() - 1, Math.max(0, Math.floorDiv(x, chunkPixels)));
+    }
+
+    private int getRow(int y) {
+        return Math.min(getRowCount() - 1, Math.max(0, Math.floorDiv(y, chunkPixels)));
+    }
+
+    private int getColumnCount() {
+        return Math.max(1, getChunkSpan(worldBounds.width));
+    }
+
+    private int getRowCount() {
+        return Math.max(1, getChunkSpan(worldBounds.height));
+    }
+}
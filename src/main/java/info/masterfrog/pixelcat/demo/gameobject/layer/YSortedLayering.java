@@ -0,0 +1,65 @@
+package info.masterfrog.pixelcat.demo.gameobject.layer;
+
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObject;
+import info.masterfrog.pixelcat.engine.logic.gameobject.feature.Renderable;
+
+import java.util.Arrays;
+
+public class YSortedLayering {
+    private int size;
+    private Renderable[] renderables;
+    private int[] layeredY;
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int UNLAYERED = Integer.MIN_VALUE;
+
+    public YSortedLayering() {
+        this.size = 0;
+        this.renderables = new Renderable[INITIAL_CAPACITY];
+        this.layeredY = new int[INITIAL_CAPACITY];
+    }
+
+    public YSortedLayering track(GameObject gameObject) throws TransientGameException {
+        // grow storage
+        if (size == renderables.length) {
+            renderables = Arrays.copyOf(renderables, size * 2);
+            layeredY = Arrays.copyOf(layeredY, size * 2);
+        }
+
+        // track render properties, layering on the next update
+        renderables[size] = gameObject.getFeature(Renderable.class);
+        layeredY[size] = UNLAYERED;
+        size++;
+
+        return this;
+    }
+
+    public YSortedLayering invalidate() {
+        // force every tracked object to be re-layered on the next update
+        Arrays.fill(layeredY, 0, size, UNLAYERED);
+
+        return this;
+    }
+
+    public int update() {
+        // re-layer only the objects whose y changed since they were last layered
+        int changed = 0;
+        for (int i = 0; i < size; i++) {
+            int y = renderables[i].getPosition().y;
+            if (y == layeredY[i]) {
+                continue;
+            }
+
+            renderables[i].setLayer(y);
+            layeredY[i] = y;
+            changed++;
+        }
+
+        return changed;
+    }
+
+    public int size() {
+        return size;
+    }
+}
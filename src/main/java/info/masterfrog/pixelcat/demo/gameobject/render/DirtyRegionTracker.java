@@ -0,0 +1,215 @@
+package info.masterfrog.pixelcat.demo.gameobject.render;
+
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObject;
+import info.masterfrog.pixelcat.engine.logic.gameobject.feature.Renderable;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// screen areas changed since the last frame, gathered from tracked render properties and from explicit
+// marks, coalesced into a few rectangles so only those need repainting, marks coming from the kernel thread only
+public class DirtyRegionTracker {
+    private Rectangle bounds;
+    private int size;
+    private Renderable[] renderables;
+    private int[] widths;
+    private int[] heights;
+    private int[] trackedX;
+    private int[] trackedY;
+    private boolean[] animated;
+    private int[] markedX;
+    private int[] markedY;
+    private int[] markedWidths;
+    private int[] markedHeights;
+    private int markCount;
+    private boolean overflowed;
+    private List<Rectangle> frame;
+    private boolean invalidated;
+    private boolean fullRepaint;
+    private long frameArea;
+
+    // trackers are only built for a renderer able to repaint part of the screen, the engine's always repainting all of it
+    public static final String ENABLED_PROPERTY = "pixelcat.dirtyRegions";
+
+    private static final int INITIAL_CAPACITY = 8;
+    // beyond this many rectangles, or this share of the screen, repainting everything is cheaper
+    private static final int MAX_RECTANGLES = 32;
+    private static final double MAX_AREA_SHARE = 0.5;
+
+    public DirtyRegionTracker(Rectangle bounds) {
+        this.bounds = new Rectangle(bounds);
+        this.size = 0;
+        this.renderables = new Renderable[INITIAL_CAPACITY];
+        this.widths = new int[INITIAL_CAPACITY];
+        this.heights = new int[INITIAL_CAPACITY];
+        this.trackedX = new int[INITIAL_CAPACITY];
+        this.trackedY = new int[INITIAL_CAPACITY];
+        this.animated = new boolean[INITIAL_CAPACITY];
+        this.markedX = new int[MAX_RECTANGLES];
+        this.markedY = new int[MAX_RECTANGLES];
+        this.markedWidths = new int[MAX_RECTANGLES];
+        this.markedHeights = new int[MAX_RECTANGLES];
+        this.markCount = 0;
+        this.overflowed = false;
+        this.frame = new ArrayList<>();
+        this.invalidated = true;
+        this.fullRepaint = true;
+        this.frameArea = 0L;
+    }
+
+    public DirtyRegionTracker track(GameObject gameObject, int width, int height, boolean animated) throws TransientGameException {
+        // grow storage
+        if (size == renderables.length) {
+            renderables = Arrays.copyOf(renderables, size * 2);
+            widths = Arrays.copyOf(widths, size * 2);
+            heights = Arrays.copyOf(heights, size * 2);
+            trackedX = Arrays.copyOf(trackedX, size * 2);
+            trackedY = Arrays.copyOf(trackedY, size * 2);
+            this.animated = Arrays.copyOf(this.animated, size * 2);
+        }
+
+        // track render properties, objects animated by the engine being repainted every frame
+        Renderable renderable = gameObject.getFeature(Renderable.class);
+        renderables[size] = renderable;
+        widths[size] = width;
+        heights[size] = height;
+        trackedX[size] = renderable.getPosition().x;
+        trackedY[size] = renderable.getPosition().y;
+        this.animated[size] = animated;
+        size++;
+
+        return this;
+    }
+
+    public DirtyRegionTracker mark(int x, int y, int width, int height) {
+        // past the rectangle limit the whole screen gets repainted anyway, stop collecting
+        if (overflowed) {
+            return this;
+        }
+
+        // keep only the on screen part
+        int left = Math.max(x, bounds.x);
+        int top = Math.max(y, bounds.y);
+        int right = Math.min(x + width, bounds.x + bounds.width);
+        int bottom = Math.min(y + height, bounds.y + bounds.height);
+        if (right <= left || bottom <= top) {
+            return this;
+        }
+
+        // store mark, unless there are already more than coalescing would be worth
+        if (markCount == MAX_RECTANGLES) {
+            overflowed = true;
+
+            return this;
+        }
+        markedX[markCount] = left;
+        markedY[markCount] = top;
+        markedWidths[markCount] = right - left;
+        markedHeights[markCount] = bottom - top;
+        markCount++;
+
+        return this;
+    }
+
+    public DirtyRegionTracker invalidate() {
+        // repaint everything on the next frame
+        invalidated = true;
+
+        return this;
+    }
+
+    public synchronized long update() {
+        // mark tracked objects that moved or animate, covering where they were and where they are,
+        // layers only ever changing along with a move
+        for (int i = 0; i < size; i++) {
+            Point position = renderables[i].getPosition();
+            boolean moved = position.x != trackedX[i] || position.y != trackedY[i];
+            if (moved || animated[i]) {
+                mark(position.x, position.y, widths[i], heights[i]);
+                if (moved) {
+                    mark(trackedX[i], trackedY[i], widths[i], heights[i]);
+                }
+                trackedX[i] = position.x;
+                trackedY[i] = position.y;
+            }
+        }
+
+        // publish this frame's region, marks from here on count towards the next
+        frame.clear();
+        fullRepaint = invalidated || overflowed;
+        if (!fullRepaint) {
+            coalesce();
+            frameArea = 0L;
+            for (int i = 0; i < markCount; i++) {
+                frameArea += (long) markedWidths[i] * markedHeights[i];
+            }
+            fullRepaint = frameArea > bounds.getWidth() * bounds.getHeight() * MAX_AREA_SHARE;
+        }
+        if (fullRepaint) {
+            frame.add(new Rectangle(bounds));
+            frameArea = (long) bounds.width * bounds.height;
+        } else {
+            for (int i = 0; i < markCount; i++) {
+                frame.add(new Rectangle(markedX[i], markedY[i], markedWidths[i], markedHeights[i]));
+            }
+        }
+        markCount = 0;
+        overflowed = false;
+        invalidated = false;
+
+        return frameArea;
+    }
+
+    private void coalesce() {
+        // merge pairs whose union costs no more to repaint than both apart, a grown mark being checked against the
+        // others again, at most MAX_RECTANGLES marks keeping this bounded
+        for (int i = 0; i < markCount; i++) {
+            for (int j = i + 1; j < markCount; j++) {
+                int left = Math.min(markedX[i], markedX[j]);
+                int top = Math.min(markedY[i], markedY[j]);
+                int right = Math.max(markedX[i] + markedWidths[i], markedX[j] + markedWidths[j]);
+                int bottom = Math.max(markedY[i] + markedHeights[i], markedY[j] + markedHeights[j]);
+                long unionArea = (long) (right - left) * (bottom - top);
+                if (unionArea > (long) markedWidths[i] * markedHeights[i] + (long) markedWidths[j] * markedHeights[j]) {
+                    continue;
+                }
+
+                // grow the first mark into the union, moving the last mark into the second's place
+                markedX[i] = left;
+                markedY[i] = top;
+                markedWidths[i] = right - left;
+                markedHeights[i] = bottom - top;
+                markCount--;
+                markedX[j] = markedX[markCount];
+                markedY[j] = markedY[markCount];
+                markedWidths[j] = markedWidths[markCount];
+                markedHeights[j] = markedHeights[markCount];
+                j = i;
+            }
+        }
+    }
+
+    public synchronized List<Rectangle> getDirtyRectangles() {
+        return Collections.unmodifiableList(new ArrayList<>(frame));
+    }
+
+    public synchronized boolean isFullRepaint() {
+        return fullRepaint;
+    }
+
+    public synchronized long getDirtyArea() {
+        return frameArea;
+    }
+
+    public Rectangle getBounds() {
+        return new Rectangle(bounds);
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,156 @@
+package info.masterfrog.pixelcat.demo.gameobject.spatial;
+
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObject;
+import info.masterfrog.pixelcat.engine.logic.gameobject.feature.Renderable;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SpatialGrid {
+    private Rectangle bounds;
+    private int cellSize;
+    private int columns;
+    private int rows;
+    private Map<Long, List<GameObject>> cells;
+    private Map<GameObject, Renderable> renderables;
+    private Map<GameObject, Long> cellIndices;
+    private List<GameObject> dynamicObjects;
+
+    public SpatialGrid(Rectangle bounds, Integer cellSize) {
+        this.bounds = new Rectangle(bounds);
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (bounds.width + cellSize - 1) / cellSize);
+        this.rows = Math.max(1, (bounds.height + cellSize - 1) / cellSize);
+        // cells only exist while occupied, so a grid over a large world costs no more than its objects
+        this.cells = new HashMap<>();
+        this.renderables = new IdentityHashMap<>();
+        this.cellIndices = new IdentityHashMap<>();
+        this.dynamicObjects = new ArrayList<>();
+    }
+
+    public SpatialGrid add(GameObject gameObject, boolean dynamic) throws TransientGameException {
+        // fetch render properties
+        Renderable renderable = gameObject.getFeature(Renderable.class);
+
+        // bucket object by current position
+        long cellIndex = getCellIndex(renderable.getPosition());
+        addToCell(cellIndex, gameObject);
+
+        // track object
+        renderables.put(gameObject, renderable);
+        cellIndices.put(gameObject, cellIndex);
+        if (dynamic) {
+            dynamicObjects.add(gameObject);
+        }
+
+        return this;
+    }
+
+    public boolean move(GameObject gameObject) {
+        // re-bucket a single object moved outside of the dynamic update
+        long previousCellIndex = cellIndices.get(gameObject);
+        long cellIndex = getCellIndex(renderables.get(gameObject).getPosition());
+        if (cellIndex == previousCellIndex) {
+            return false;
+        }
+
+        removeFromCell(previousCellIndex, gameObject);
+        addToCell(cellIndex, gameObject);
+        cellIndices.put(gameObject, cellIndex);
+
+        return true;
+    }
+
+    public int update() {
+        // re-bucket only the dynamic objects that crossed into another cell
+        int moved = 0;
+        for (int i = 0; i < dynamicObjects.size(); i++) {
+            GameObject gameObject = dynamicObjects.get(i);
+            long previousCellIndex = cellIndices.get(gameObject);
+            long cellIndex = getCellIndex(renderables.get(gameObject).getPosition());
+            if (cellIndex == previousCellIndex) {
+                continue;
+            }
+
+            removeFromCell(previousCellIndex, gameObject);
+            addToCell(cellIndex, gameObject);
+            cellIndices.put(gameObject, cellIndex);
+            moved++;
+        }
+
+        return moved;
+    }
+
+    public <C extends Collection<GameObject>> C query(Rectangle area, C results) {
+        // determine covered cells
+        int minColumn = getColumn(area.x);
+        int maxColumn = getColumn(area.x + area.width - 1);
+        int minRow = getRow(area.y);
+        int maxRow = getRow(area.y + area.height - 1);
+
+        // collect objects positioned within the area
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                List<GameObject> cell = cells.get(getCellIndex(column, row));
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size(); i++) {
+                    GameObject gameObject = cell.get(i);
+                    if (area.contains(renderables.get(gameObject).getPosition())) {
+                        results.add(gameObject);
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+    public <C extends Collection<GameObject>> C queryNeighbourhood(Point center, Integer radius, C results) {
+        return query(new Rectangle(center.x - radius, center.y - radius, radius * 2 + 1, radius * 2 + 1), results);
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    public int size() {
+        return cellIndices.size();
+    }
+
+    private void addToCell(long cellIndex, GameObject gameObject) {
+        cells.computeIfAbsent(cellIndex, key -> new ArrayList<>()).add(gameObject);
+    }
+
+    private void removeFromCell(long cellIndex, GameObject gameObject) {
+        List<GameObject> cell = cells.get(cellIndex);
+        cell.remove(gameObject);
+        if (cell.isEmpty()) {
+            cells.remove(cellIndex);
+        }
+    }
+
+    private long getCellIndex(Point position) {
+        return getCellIndex(getColumn(position.x), getRow(position.y));
+    }
+
+    private long getCellIndex(int column, int row) {
+        return (long) row * columns + column;
+    }
+
+    private int getColumn(int x) {
+        // positions outside the bounds fall into the edge cells
+        return Math.min(columns - 1, Math.max(0, (x - bounds.x) / cellSize));
+    }
+
+    private int getRow(int y) {
+        return Math.min(rows - 1, Math.max(0, (y - bounds.y) / cellSize));
+    }
+}
@@ -0,0 +1,156 @@
+package info.masterfrog.pixelcat.demo.gameobject.update;
+
+import info.masterfrog.pixelcat.engine.common.printer.Printer;
+import info.masterfrog.pixelcat.engine.common.printer.PrinterFactory;
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+
+// independent per-frame updates, run one after another or split across a work-stealing pool,
+// returning only once every update finished so rendering never sees a frame half updated
+public class ParallelUpdatePhase {
+    private ForkJoinPool pool;
+    private Update[] updates;
+    private int size;
+
+    public static final String ENABLED_PROPERTY = "pixelcat.parallelUpdate";
+    public static final String THREADS_PROPERTY = "pixelcat.parallelUpdate.threads";
+    private static final int INITIAL_CAPACITY = 8;
+
+    private static ForkJoinPool sharedPool = null;
+
+    private static final Printer PRINTER = PrinterFactory.getInstance().createPrinter(ParallelUpdatePhase.class);
+
+    public interface Update {
+        int update(long time) throws TransientGameException;
+    }
+
+    public ParallelUpdatePhase(ForkJoinPool pool) {
+        this.pool = pool;
+        this.updates = new Update[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    public static ParallelUpdatePhase create() {
+        // updates stay on the kernel thread unless asked for
+        if (!Boolean.getBoolean(ENABLED_PROPERTY)) {
+            return new ParallelUpdatePhase(null);
+        }
+
+        return new ParallelUpdatePhase(getSharedPool());
+    }
+
+    private static synchronized ForkJoinPool getSharedPool() {
+        // every phase shares one pool of daemon workers, created once, so injections never leave pools behind
+        if (sharedPool == null) {
+            int threads = Math.max(1, Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()));
+            PRINTER.printInfo("Parallel update enabled [" + threads + "]...");
+            sharedPool = new ForkJoinPool(
+                threads,
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("pixelcat-parallel-update-" + thread.getPoolIndex());
+                    thread.setDaemon(true);
+
+                    return thread;
+                },
+                null,
+                false
+            );
+        }
+
+        return sharedPool;
+    }
+
+    public ParallelUpdatePhase add(Update update) {
+        // grow storage
+        if (size == updates.length) {
+            updates = Arrays.copyOf(updates, size * 2);
+        }
+
+        updates[size++] = update;
+
+        return this;
+    }
+
+    public ParallelUpdatePhase clear() {
+        Arrays.fill(updates, 0, size, null);
+        size = 0;
+
+        return this;
+    }
+
+    public int run(long time) throws TransientGameException {
+        // a single update or no pool gains nothing from forking
+        if (pool == null || size < 2) {
+            int updated = 0;
+            for (int i = 0; i < size; i++) {
+                updated += updates[i].update(time);
+            }
+
+            return updated;
+        }
+
+        // fork the updates across the pool, joining them all is the barrier before rendering
+        try {
+            return pool.invoke(new UpdateRange(updates, 0, size, time));
+        } catch (UpdateFailure e) {
+            throw e.getCause();
+        }
+    }
+
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static class UpdateRange extends RecursiveTask<Integer> {
+        private Update[] updates;
+        private int from;
+        private int to;
+        private long time;
+
+        UpdateRange(Update[] updates, int from, int to, long time) {
+            this.updates = updates;
+            this.from = from;
+            this.to = to;
+            this.time = time;
+        }
+
+        @Override
+        protected Integer compute() {
+            // run a single update here, splitting larger ranges so idle workers can steal halves
+            if (to - from == 1) {
+                try {
+                    return updates[from].update(time);
+                } catch (TransientGameException e) {
+                    throw new UpdateFailure(e);
+                }
+            }
+
+            int middle = (from + to) >>> 1;
+            UpdateRange upper = new UpdateRange(updates, middle, to, time);
+            upper.fork();
+            int updated = new UpdateRange(updates, from, middle, time).compute();
+
+            return updated + upper.join();
+        }
+    }
+
+    private static class UpdateFailure extends RuntimeException {
+        UpdateFailure(TransientGameException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized TransientGameException getCause() {
+            return (TransientGameException) super.getCause();
+        }
+    }
+}
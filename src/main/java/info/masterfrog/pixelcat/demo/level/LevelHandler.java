@@ -24,6 +24,10 @@ public class LevelHandler {
         return currentLevel;
     }
 
+    public LevelHandle peekNextLevel() {
+        return LEVEL_TRANSITIONS.get(currentLevel);
+    }
+
     public LevelHandle getNextLevel() {
         // check for level transition
         if (!LEVEL_TRANSITIONS.containsKey(currentLevel)) {
@@ -8,9 +8,13 @@ import info.masterfrog.pixelcat.engine.hid.HIDEventEnum;
 import info.masterfrog.pixelcat.demo.gameobject.GameObjectsHandler;
 import info.masterfrog.pixelcat.demo.level.LevelHandler;
 import info.masterfrog.pixelcat.demo.main.kernel.PreProcessingKernelInjection;
+import info.masterfrog.pixelcat.demo.metrics.MetricsRegistry;
+import info.masterfrog.pixelcat.demo.metrics.MetricsReporter;
+import info.masterfrog.pixelcat.demo.sound.AudioMixer;
 import info.masterfrog.pixelcat.demo.enumeration.LevelHandle;
 import info.masterfrog.pixelcat.engine.kernel.*;
 
+import javax.sound.sampled.LineUnavailableException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -36,12 +40,22 @@ public class DemoMain {
             kernelActionBinder.unbind(HIDEventEnum.F);
             kernelActionBinder.bind(HIDEventEnum.D, KernelActionEnum.FONT_DEBUG_TOGGLE);
 
+            // report metrics in the background
+            MetricsReporter.fromSystemProperties(MetricsRegistry.getInstance()).start();
+
+            // start audio, the game runs silent without an output line
+            try {
+                AudioMixer.getInstance().start();
+            } catch (LineUnavailableException | IllegalArgumentException e) {
+                PRINTER.printWarning("Audio output unavailable, running without sound...");
+            }
+
             // init game objects
             LevelHandle startingLevel = LevelHandle.START_SCREEN;
             LevelHandler levelHandler = new LevelHandler(startingLevel);
             GameObjectsHandler gameObjectsHandler = new GameObjectsHandler(kernelState);
-            gameObjectsHandler.init();
-            kernel.registerGameObjectManagers(gameObjectsHandler.getGameObjectManagerList(startingLevel));
+            gameObjectsHandler.init(levelHandler);
+            kernel.registerGameObjectManagers(gameObjectsHandler.activateLevel(startingLevel));
 
             // define kernel injections
             Map<KernelInjectionEventEnum, KernelInjection> kernelInjectionMap = ImmutableMap.<KernelInjectionEventEnum, KernelInjection>of(
@@ -54,6 +68,9 @@ public class DemoMain {
             PRINTER.printError(e);
         }
 
+        // stop audio
+        AudioMixer.getInstance().stop();
+
         // exit
         System.exit(0);
     }
@@ -0,0 +1,132 @@
+package info.masterfrog.pixelcat.demo.main;
+
+import com.google.common.collect.ImmutableSet;
+import info.masterfrog.pixelcat.demo.enumeration.LevelHandle;
+import info.masterfrog.pixelcat.demo.gameobject.GameObjectsHandler;
+import info.masterfrog.pixelcat.demo.level.LevelHandler;
+import info.masterfrog.pixelcat.demo.main.headless.FrameScript;
+import info.masterfrog.pixelcat.demo.main.headless.FrameStatistics;
+import info.masterfrog.pixelcat.demo.main.headless.HeadlessKernelState;
+import info.masterfrog.pixelcat.demo.main.kernel.PreProcessingKernelInjection;
+import info.masterfrog.pixelcat.engine.common.printer.Printer;
+import info.masterfrog.pixelcat.engine.common.printer.PrinterFactory;
+import info.masterfrog.pixelcat.engine.exception.TerminalErrorException;
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.hid.HIDEventEnum;
+import info.masterfrog.pixelcat.engine.kernel.KernelActionEnum;
+import info.masterfrog.pixelcat.engine.kernel.KernelState;
+import info.masterfrog.pixelcat.engine.kernel.KernelStatePropertyEnum;
+
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumSet;
+import java.util.Set;
+
+public class HeadlessDemoMain {
+    private static final Printer PRINTER = PrinterFactory.getInstance().createPrinter(HeadlessDemoMain.class);
+
+    private static final int DEFAULT_FRAMES = 3600;
+    private static final long DEFAULT_TIMESTEP_MILLIS = 16L;
+    private static final int DEFAULT_BUSH_COUNT = 1000;
+    private static final String DEFAULT_SCRIPT = "scripts/headless-soak.txt";
+    private static final Rectangle SCREEN_BOUNDS = new Rectangle(0, 0, 1280, 720);
+
+    // usage: HeadlessDemoMain [frames] [timestepMillis] [bushCount] [scriptResource]
+    public static void main(String[] args) {
+        // no window, no display
+        System.setProperty("java.awt.headless", "true");
+
+        // setup
+        int frames = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_FRAMES;
+        long timestepMillis = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_TIMESTEP_MILLIS;
+        int bushCount = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_BUSH_COUNT;
+        String scriptResource = args.length > 3 ? args[3] : DEFAULT_SCRIPT;
+
+        try {
+            // init headless kernel state
+            HeadlessKernelState headlessKernelState = new HeadlessKernelState(SCREEN_BOUNDS);
+            KernelState kernelState = headlessKernelState.getKernelState();
+
+            // init game objects
+            LevelHandle startingLevel = LevelHandle.START_SCREEN;
+            LevelHandler levelHandler = new LevelHandler(startingLevel);
+            GameObjectsHandler gameObjectsHandler = new GameObjectsHandler(kernelState, bushCount);
+            gameObjectsHandler.init(levelHandler);
+            kernelState.setProperty(
+                KernelStatePropertyEnum.ACTIVE_GAME_OBJECT_MANAGERS,
+                gameObjectsHandler.activateLevel(startingLevel)
+            );
+
+            // define injection against a fixed timestep clock
+            long[] simulatedTime = {0L};
+            PreProcessingKernelInjection injection = new PreProcessingKernelInjection(
+                levelHandler,
+                gameObjectsHandler,
+                () -> simulatedTime[0]
+            );
+
+            // run frames
+            FrameScript frameScript = FrameScript.load(scriptResource);
+            FrameStatistics frameStatistics = runFrames(
+                frames, timestepMillis, frameScript, headlessKernelState, injection, simulatedTime
+            );
+
+            // report
+            PRINTER.printInfo(
+                "Headless run complete [bushes=" + bushCount + ", timestepMillis=" + timestepMillis + "] " + frameStatistics
+            );
+        } catch (TransientGameException e) {
+            PRINTER.printError(new TerminalErrorException(ImmutableSet.of(e)));
+            System.exit(1);
+        } catch (TerminalErrorException e) {
+            PRINTER.printError(e);
+            System.exit(1);
+        }
+
+        // exit
+        System.exit(0);
+    }
+
+    private static FrameStatistics runFrames(int frames,
+                                             long timestepMillis,
+                                             FrameScript frameScript,
+                                             HeadlessKernelState headlessKernelState,
+                                             PreProcessingKernelInjection injection,
+                                             long[] simulatedTime)
+                                   throws TransientGameException {
+        // setup
+        FrameStatistics frameStatistics = new FrameStatistics(frames);
+        Set<HIDEventEnum> hidEvents = EnumSet.noneOf(HIDEventEnum.class);
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocationMXBean =
+            threadMXBean instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) threadMXBean : null;
+        long threadId = Thread.currentThread().getId();
+
+        for (int frame = 0; frame < frames; frame++) {
+            // feed scripted input
+            headlessKernelState.setHIDEvents(frameScript.getHIDEvents(frame, hidEvents));
+
+            // run the frame's pre-processing injection, the engine kernel is not driven so no behavior dispatch,
+            // scene update or rendering happens and scripted movement events never move the cat
+            long allocatedBefore = allocationMXBean == null ? 0L : allocationMXBean.getThreadAllocatedBytes(threadId);
+            long startNanos = System.nanoTime();
+            injection.run(headlessKernelState.getKernelState());
+            long injectionNanos = System.nanoTime() - startNanos;
+            long allocatedAfter = allocationMXBean == null ? 0L : allocationMXBean.getThreadAllocatedBytes(threadId);
+
+            // record frame
+            frameStatistics.record(injectionNanos, allocatedAfter - allocatedBefore);
+
+            // handle exit trigger
+            if (headlessKernelState.getKernelActions().contains(KernelActionEnum.EXIT)) {
+                break;
+            }
+
+            // advance fixed timestep
+            simulatedTime[0] += timestepMillis;
+        }
+
+        return frameStatistics;
+    }
+}
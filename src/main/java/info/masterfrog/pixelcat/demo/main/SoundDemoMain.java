@@ -1,22 +1,29 @@
 package info.masterfrog.pixelcat.demo.main;
 
-import info.masterfrog.pixelcat.engine.sound.SoundPlayerImpl;
+import info.masterfrog.pixelcat.demo.sound.AudioMixer;
+import info.masterfrog.pixelcat.demo.sound.PcmCache;
+import info.masterfrog.pixelcat.demo.sound.Voice;
 
 public class SoundDemoMain {
     public static void main(String[] args) {
         String fileName = "zelda-boss-battle.ogg";
         try {
-            new Thread(() -> {
-                try {
-                    SoundPlayerImpl.getInstance().init();
-                } catch (Exception e) {
-                    System.out.println(e);
-                    System.exit(1);
-                }
-            });
-            SoundPlayerImpl.getInstance().init().playSound(fileName);
+            // start the mixer once, playback never blocks on decoding
+            AudioMixer mixer = AudioMixer.getInstance().start();
+
+            // stream the long track underneath
+            Voice music = mixer.play("tv-song.mp3", 0.4f);
+
+            // decode the effect once, then overlap two pooled voices of it
+            PcmCache.getInstance().preload(fileName);
+            mixer.playEffect(fileName, 0.8f);
             Thread.sleep(3000);
-            SoundPlayerImpl.getInstance().init().playSound(fileName);
+            mixer.playEffect(fileName, 0.8f);
+            Thread.sleep(10000);
+
+            // shut down
+            music.stop();
+            mixer.stop();
         } catch (Exception e) {
             System.out.println(e);
             System.exit(1);
@@ -0,0 +1,94 @@
+package info.masterfrog.pixelcat.demo.main.headless;
+
+import info.masterfrog.pixelcat.engine.exception.GameErrorCode;
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.hid.HIDEventEnum;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+public class FrameScript {
+    private List<Entry> entries;
+
+    private FrameScript(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    public static FrameScript empty() {
+        return new FrameScript(Collections.emptyList());
+    }
+
+    // each line reads "<frame>[-<lastFrame>] <HID_EVENT> [<HID_EVENT>...]", '#' starts a comment
+    public static FrameScript load(String resourceName) throws TransientGameException {
+        // setup
+        List<Entry> entries = new ArrayList<>();
+        InputStream inputStream = FrameScript.class.getClassLoader().getResourceAsStream(resourceName);
+
+        // validate
+        if (inputStream == null) {
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        // parse entries
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int commentIndex = line.indexOf('#');
+                if (commentIndex >= 0) {
+                    line = line.substring(0, commentIndex);
+                }
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                String[] tokens = line.split("\\s+");
+                String[] range = tokens[0].split("-");
+                int firstFrame = Integer.parseInt(range[0]);
+                int lastFrame = range.length > 1 ? Integer.parseInt(range[1]) : firstFrame;
+                Set<HIDEventEnum> hidEvents = EnumSet.noneOf(HIDEventEnum.class);
+                for (int i = 1; i < tokens.length; i++) {
+                    hidEvents.add(HIDEventEnum.valueOf(tokens[i]));
+                }
+                entries.add(new Entry(firstFrame, lastFrame, hidEvents));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        return new FrameScript(entries);
+    }
+
+    public Set<HIDEventEnum> getHIDEvents(int frame, Set<HIDEventEnum> hidEvents) {
+        // collect events of every entry covering the frame
+        hidEvents.clear();
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (frame >= entry.firstFrame && frame <= entry.lastFrame) {
+                hidEvents.addAll(entry.hidEvents);
+            }
+        }
+
+        return hidEvents;
+    }
+
+    private static class Entry {
+        private int firstFrame;
+        private int lastFrame;
+        private Set<HIDEventEnum> hidEvents;
+
+        private Entry(int firstFrame, int lastFrame, Set<HIDEventEnum> hidEvents) {
+            this.firstFrame = firstFrame;
+            this.lastFrame = lastFrame;
+            this.hidEvents = hidEvents;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package info.masterfrog.pixelcat.demo.main.headless;
+
+import java.util.Arrays;
+
+public class FrameStatistics {
+    private int frameCount;
+    private long[] injectionNanos;
+    private long[] frameAllocatedBytes;
+
+    public FrameStatistics(Integer capacity) {
+        this.frameCount = 0;
+        this.injectionNanos = new long[capacity];
+        this.frameAllocatedBytes = new long[capacity];
+    }
+
+    public void record(long nanos, long allocatedBytes) {
+        injectionNanos[frameCount] = nanos;
+        frameAllocatedBytes[frameCount] = allocatedBytes;
+        frameCount++;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public long getInjectionNanosPercentile(double percentile) {
+        return percentile(injectionNanos, percentile);
+    }
+
+    public long getAllocatedBytesPercentile(double percentile) {
+        return percentile(frameAllocatedBytes, percentile);
+    }
+
+    public double getMeanAllocatedBytes() {
+        long total = 0;
+        for (int i = 0; i < frameCount; i++) {
+            total += frameAllocatedBytes[i];
+        }
+
+        return frameCount == 0 ? 0 : (double) total / frameCount;
+    }
+
+    private long percentile(long[] values, double percentile) {
+        // validate
+        if (frameCount == 0) {
+            return 0;
+        }
+
+        // nearest-rank percentile over the recorded frames
+        long[] sorted = Arrays.copyOf(values, frameCount);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * frameCount);
+
+        return sorted[Math.min(frameCount, Math.max(1, rank)) - 1];
+    }
+
+    @Override
+    public String toString() {
+        return "FrameStatistics{" +
+            "frames=" + frameCount +
+            ", injectionP50Micros=" + getInjectionNanosPercentile(50) / 1000 +
+            ", injectionP90Micros=" + getInjectionNanosPercentile(90) / 1000 +
+            ", injectionP99Micros=" + getInjectionNanosPercentile(99) / 1000 +
+            ", injectionMaxMicros=" + getInjectionNanosPercentile(100) / 1000 +
+            ", meanAllocatedBytes=" + (long) getMeanAllocatedBytes() +
+            ", p99AllocatedBytes=" + getAllocatedBytesPercentile(99) +
+            '}';
+    }
+}
@@ -0,0 +1,107 @@
+package info.masterfrog.pixelcat.demo.main.headless;
+
+import info.masterfrog.pixelcat.engine.hid.HIDEventEnum;
+import info.masterfrog.pixelcat.engine.kernel.KernelActionEnum;
+import info.masterfrog.pixelcat.engine.kernel.KernelState;
+import info.masterfrog.pixelcat.engine.kernel.KernelStatePropertyEnum;
+
+import java.awt.*;
+import java.lang.reflect.Proxy;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+public class HeadlessKernelState {
+    private Map<KernelStatePropertyEnum, Object> properties;
+    private Set<HIDEventEnum> hidEvents;
+    private Set<KernelActionEnum> kernelActions;
+    private KernelState kernelState;
+
+    public HeadlessKernelState(Rectangle screenBounds) {
+        this.properties = new EnumMap<>(KernelStatePropertyEnum.class);
+        this.hidEvents = EnumSet.noneOf(HIDEventEnum.class);
+        this.kernelActions = EnumSet.noneOf(KernelActionEnum.class);
+        this.properties.put(KernelStatePropertyEnum.SCREEN_BOUNDS, screenBounds);
+        this.kernelState = (KernelState) Proxy.newProxyInstance(
+            KernelState.class.getClassLoader(),
+            new Class<?>[]{KernelState.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getProperty":
+                        return properties.get(args[0]);
+                    case "setProperty":
+                        properties.put((KernelStatePropertyEnum) args[0], args[1]);
+                        return null;
+                    case "hasHIDEvent":
+                        return hidEvents.contains(args[0]);
+                    case "removeHIDEvent":
+                        hidEvents.remove(args[0]);
+                        return null;
+                    case "addKernelAction":
+                        kernelActions.add((KernelActionEnum) args[0]);
+                        return null;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    case "toString":
+                        return "HeadlessKernelState" + properties;
+                    default:
+                        return defaultValue(method.getReturnType());
+                }
+            }
+        );
+    }
+
+    public KernelState getKernelState() {
+        return kernelState;
+    }
+
+    public Set<KernelActionEnum> getKernelActions() {
+        return kernelActions;
+    }
+
+    public HeadlessKernelState addHIDEvent(HIDEventEnum hidEvent) {
+        hidEvents.add(hidEvent);
+
+        return this;
+    }
+
+    public HeadlessKernelState setHIDEvents(Set<HIDEventEnum> hidEvents) {
+        this.hidEvents.clear();
+        this.hidEvents.addAll(hidEvents);
+
+        return this;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        // unstubbed calls answer with the zero value of their return type
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0.0;
+        }
+        if (type == float.class) {
+            return 0.0f;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+
+        return 0;
+    }
+}
@@ -1,6 +1,7 @@
 package info.masterfrog.pixelcat.demo.main.kernel;
 
-import info.masterfrog.pixelcat.engine.common.memory.MemoryMonitorFactory;
+import info.masterfrog.pixelcat.demo.metrics.Counter;
+import info.masterfrog.pixelcat.demo.metrics.MetricsRegistry;
 import info.masterfrog.pixelcat.engine.common.printer.Printer;
 import info.masterfrog.pixelcat.engine.common.printer.PrinterFactory;
 import info.masterfrog.pixelcat.engine.exception.TransientGameException;
@@ -8,14 +9,20 @@ import info.masterfrog.pixelcat.engine.kernel.KernelInjection;
 import info.masterfrog.pixelcat.engine.kernel.KernelState;
 
 public class PostRenderingKernelInjection implements KernelInjection {
+    private Counter framesRendered;
+
     private static final Printer PRINTER = PrinterFactory.getInstance().createPrinter(PostRenderingKernelInjection.class);
 
+    public PostRenderingKernelInjection() {
+        this.framesRendered = MetricsRegistry.getInstance().counter(MetricsRegistry.FRAMES_RENDERED);
+    }
+
     public void run(KernelState kernelState) throws TransientGameException {
         // debug
         PRINTER.printTrace("Test kernel-injected post-processor started...");
 
-        // memory pulse
-        PRINTER.printInfo("\n" + MemoryMonitorFactory.getInstance().getMemoryMonitorUtil().getMemoryPulseString());
+        // record frame, heap and gc are sampled by the metrics reporter off the render thread
+        framesRendered.increment();
 
         // debug
         PRINTER.printTrace("Test kernel-injected post-processor ended...");
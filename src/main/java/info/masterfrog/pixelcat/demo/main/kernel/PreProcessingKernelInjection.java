@@ -1,9 +1,17 @@
 package info.masterfrog.pixelcat.demo.main.kernel;
 
-import info.masterfrog.pixelcat.demo.enumeration.GameObjectHandle;
 import info.masterfrog.pixelcat.demo.enumeration.LevelHandle;
 import info.masterfrog.pixelcat.demo.gameobject.GameObjectsHandler;
+import info.masterfrog.pixelcat.demo.gameobject.field.BushField;
+import info.masterfrog.pixelcat.demo.gameobject.field.BushFieldStreamer;
+import info.masterfrog.pixelcat.demo.gameobject.layer.YSortedLayering;
+import info.masterfrog.pixelcat.demo.gameobject.render.DirtyRegionTracker;
+import info.masterfrog.pixelcat.demo.gameobject.spatial.SpatialGrid;
+import info.masterfrog.pixelcat.demo.gameobject.update.ParallelUpdatePhase;
 import info.masterfrog.pixelcat.demo.level.LevelHandler;
+import info.masterfrog.pixelcat.demo.metrics.Counter;
+import info.masterfrog.pixelcat.demo.metrics.Histogram;
+import info.masterfrog.pixelcat.demo.metrics.MetricsRegistry;
 import info.masterfrog.pixelcat.engine.common.printer.Printer;
 import info.masterfrog.pixelcat.engine.common.printer.PrinterFactory;
 import info.masterfrog.pixelcat.engine.exception.TransientGameException;
@@ -12,36 +20,92 @@ import info.masterfrog.pixelcat.engine.kernel.KernelActionEnum;
 import info.masterfrog.pixelcat.engine.kernel.KernelInjection;
 import info.masterfrog.pixelcat.engine.kernel.KernelState;
 import info.masterfrog.pixelcat.engine.kernel.KernelStatePropertyEnum;
-import info.masterfrog.pixelcat.engine.logic.gameobject.feature.Renderable;
 import info.masterfrog.pixelcat.demo.enumeration.GameObjectManagerHandle;
 
 import java.awt.*;
+import java.util.function.LongSupplier;
 
 public class PreProcessingKernelInjection implements KernelInjection {
     private LevelHandler levelHandler;
     private GameObjectsHandler gameObjectsHandler;
+    private LongSupplier clock;
+    private BushField levelOneBushField;
+    private BushFieldStreamer levelOneBushFieldStreamer;
+    private SpatialGrid levelOneSpatialIndex;
+    private YSortedLayering levelOneLayering;
+    private ParallelUpdatePhase levelOneUpdatePhase;
+    private DirtyRegionTracker[] activeDirtyRegionTrackers;
+    private Histogram frameTime;
+    private Counter objectsUpdated;
+    private Counter dirtyPixels;
+    private Counter fullRepaints;
+    private long lastFrameNanos;
+
+    private static final int BUSH_INSTANCES_PER_UPDATE = 4096;
+    private static final DirtyRegionTracker[] NO_DIRTY_REGION_TRACKERS = new DirtyRegionTracker[0];
 
     private static final Printer PRINTER = PrinterFactory.getInstance().createPrinter(PreProcessingKernelInjection.class);
 
     public PreProcessingKernelInjection(LevelHandler levelHandler, GameObjectsHandler gameObjectsHandler) {
+        this(levelHandler, gameObjectsHandler, System::currentTimeMillis);
+    }
+
+    public PreProcessingKernelInjection(LevelHandler levelHandler, GameObjectsHandler gameObjectsHandler, LongSupplier clock) {
         this.levelHandler = levelHandler;
         this.gameObjectsHandler = gameObjectsHandler;
+        this.clock = clock;
+        this.levelOneUpdatePhase = ParallelUpdatePhase.create();
+        this.frameTime = MetricsRegistry.getInstance().histogram(MetricsRegistry.FRAME_TIME_NANOS);
+        this.objectsUpdated = MetricsRegistry.getInstance().counter(MetricsRegistry.OBJECTS_UPDATED);
+        this.dirtyPixels = MetricsRegistry.getInstance().counter(MetricsRegistry.RENDER_DIRTY_PIXELS);
+        this.fullRepaints = MetricsRegistry.getInstance().counter(MetricsRegistry.RENDER_FULL_REPAINTS);
+        this.lastFrameNanos = 0L;
     }
 
     public void run(KernelState kernelState) throws TransientGameException {
         PRINTER.printTrace("Test kernel-injected pre-processor started...");
 
+        // record frame time
+        long frameNanos = System.nanoTime();
+        if (lastFrameNanos != 0L) {
+            frameTime.record(frameNanos - lastFrameNanos);
+        }
+        lastFrameNanos = frameNanos;
+
         // handle exit trigger
         if (kernelState.hasHIDEvent(HIDEventEnum.ESC)) {
             kernelState.addKernelAction(KernelActionEnum.EXIT);
         }
 
+        // resolve the current level's dirty region trackers once
+        if (activeDirtyRegionTrackers == null) {
+            resolveDirtyRegionTrackers(levelHandler.getCurrentLevel());
+        }
+
         // level one specifics
         if (levelHandler.getCurrentLevel().equals(LevelHandle.L1)) {
-            // handle nyan cat render level
-            gameObjectsHandler.getGameObject(GameObjectHandle.CAT_CHARACTER).getFeature(Renderable.class).setLayer(
-                gameObjectsHandler.getGameObject(GameObjectHandle.CAT_CHARACTER).getFeature(Renderable.class).getPosition().y
-            );
+            // resolve level one collaborators once
+            if (levelOneLayering == null) {
+                resolveLevelOne();
+            }
+
+            // stream in bushes the cat character approached, recycling those left furthest behind
+            int updated = 0;
+            if (levelOneBushFieldStreamer != null) {
+                updated += levelOneBushFieldStreamer.update();
+            }
+
+            // advance bush animation chunks, all done before rendering, then mark the cels they changed
+            updated += levelOneUpdatePhase.run(clock.getAsLong());
+            levelOneBushField.markChangedInstances();
+
+            // past the barrier, keep level object index in step with moved objects, then handle nyan cat render
+            // level, re-layered only when it moved vertically
+            updated += levelOneSpatialIndex.update();
+            updated += levelOneLayering.update();
+
+            // record updated objects
+            objectsUpdated.add(updated);
         }
 
         // handle level transition
@@ -53,20 +117,80 @@ public class PreProcessingKernelInjection implements KernelInjection {
                 kernelState.addKernelAction(KernelActionEnum.EXIT);
             } else {
                 PRINTER.printInfo("Level transition triggered [" + currentLevel + ">>>" + nextLevel + "]...");
+
+                // swap the active managers over to the next level
+                gameObjectsHandler.deactivateLevel(currentLevel);
                 kernelState.setProperty(
                     KernelStatePropertyEnum.ACTIVE_GAME_OBJECT_MANAGERS,
-                    gameObjectsHandler.getGameObjectManagerList(nextLevel)
+                    gameObjectsHandler.activateLevel(nextLevel)
                 );
                 gameObjectsHandler.getGameObjectManager(GameObjectManagerHandle.COMMON).getLayerManager().setLayerCount(
-                    ((Rectangle) kernelState.getProperty(KernelStatePropertyEnum.SCREEN_BOUNDS)).height
-                );
-                gameObjectsHandler.getGameObject(GameObjectHandle.CAT_CHARACTER).getFeature(Renderable.class).setLayer(
-                    gameObjectsHandler.getGameObject(GameObjectHandle.CAT_CHARACTER).getFeature(Renderable.class).getPosition().y
+                    gameObjectsHandler.getWorldBounds().height
                 );
+                resolveDirtyRegionTrackers(nextLevel);
+                for (DirtyRegionTracker dirtyRegionTracker : activeDirtyRegionTrackers) {
+                    dirtyRegionTracker.invalidate();
+                }
+                if (currentLevel.equals(LevelHandle.L1)) {
+                    levelOneBushField = null;
+                    levelOneBushFieldStreamer = null;
+                    levelOneSpatialIndex = null;
+                    levelOneLayering = null;
+                    levelOneUpdatePhase.clear();
+                }
+                if (nextLevel.equals(LevelHandle.L1)) {
+                    resolveLevelOne();
+                    levelOneLayering.invalidate().update();
+                }
+
+                // release the level left behind and prefetch the one after the next
+                gameObjectsHandler.unloadLevel(currentLevel);
+                LevelHandle followingLevel = levelHandler.peekNextLevel();
+                if (followingLevel != null) {
+                    gameObjectsHandler.loadLevel(followingLevel);
+                }
+            }
+        }
+
+        // publish the areas changed this frame, the only ones needing a repaint
+        for (DirtyRegionTracker dirtyRegionTracker : activeDirtyRegionTrackers) {
+            dirtyPixels.add(dirtyRegionTracker.update());
+            if (dirtyRegionTracker.isFullRepaint()) {
+                fullRepaints.increment();
             }
         }
 
         PRINTER.printTrace("Test kernel-injected pre-processor ended...");
     }
 
+    private void resolveLevelOne() throws TransientGameException {
+        // fetching the index waits on level one being built, only then are its bush field and streamer set
+        levelOneSpatialIndex = gameObjectsHandler.getSpatialIndex(GameObjectManagerHandle.L1);
+        levelOneLayering = gameObjectsHandler.getYSortedLayering(GameObjectManagerHandle.L1);
+        levelOneBushField = gameObjectsHandler.getBushField();
+        levelOneBushFieldStreamer = gameObjectsHandler.getBushFieldStreamer();
+
+        // each bush chunk animates disjoint objects, so chunks update independently, grouped so every update
+        // covers enough instances to outweigh forking it
+        BushField bushField = levelOneBushField;
+        int chunksPerUpdate = Math.max(1, BUSH_INSTANCES_PER_UPDATE / bushField.getChunkSize());
+        levelOneUpdatePhase.clear();
+        for (int chunk = 0; chunk < bushField.getChunkCount(); chunk += chunksPerUpdate) {
+            int firstChunk = chunk;
+            int lastChunk = Math.min(bushField.getChunkCount(), chunk + chunksPerUpdate);
+            levelOneUpdatePhase.add(time -> {
+                int updated = 0;
+                for (int updatedChunk = firstChunk; updatedChunk < lastChunk; updatedChunk++) {
+                    updated += bushField.updateChunk(updatedChunk, time);
+                }
+
+                return updated;
+            });
+        }
+    }
+
+    private void resolveDirtyRegionTrackers(LevelHandle level) throws TransientGameException {
+        activeDirtyRegionTrackers = gameObjectsHandler.getDirtyRegionTrackerList(level).toArray(NO_DIRTY_REGION_TRACKERS);
+    }
+
 }
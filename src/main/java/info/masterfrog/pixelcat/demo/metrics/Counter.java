@@ -0,0 +1,29 @@
+package info.masterfrog.pixelcat.demo.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class Counter {
+    private String name;
+    private LongAdder value;
+
+    Counter(String name) {
+        this.name = name;
+        this.value = new LongAdder();
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
@@ -0,0 +1,21 @@
+package info.masterfrog.pixelcat.demo.metrics;
+
+import java.util.function.LongSupplier;
+
+public class Gauge {
+    private String name;
+    private LongSupplier supplier;
+
+    Gauge(String name, LongSupplier supplier) {
+        this.name = name;
+        this.supplier = supplier;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long get() {
+        return supplier.getAsLong();
+    }
+}
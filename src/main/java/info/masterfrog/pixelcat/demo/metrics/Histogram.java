@@ -0,0 +1,102 @@
+package info.masterfrog.pixelcat.demo.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class Histogram {
+    private String name;
+    private AtomicLongArray counts;
+
+    // log-linear buckets: 32 linear sub-buckets per power of two keep every bucket within ~3% of its values
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    Histogram(String name) {
+        this.name = name;
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+    }
+
+    public void record(long value) {
+        counts.incrementAndGet(getBucketIndex(Math.max(0L, value)));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Snapshot snapshot(boolean reset) {
+        // copy bucket counts, optionally starting a fresh interval
+        long[] snapshotCounts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshotCounts[i] = reset ? counts.getAndSet(i, 0L) : counts.get(i);
+        }
+
+        return new Snapshot(snapshotCounts);
+    }
+
+    private static int getBucketIndex(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    private static long getBucketLowerBound(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKET_COUNT - 1;
+
+        return (long) (index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+    }
+
+    public static class Snapshot {
+        private long[] counts;
+        private long count;
+
+        private Snapshot(long[] counts) {
+            this.counts = counts;
+            for (long bucketCount : counts) {
+                this.count += bucketCount;
+            }
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getPercentile(double percentile) {
+            // validate
+            if (count == 0) {
+                return 0L;
+            }
+
+            // walk buckets up to the nearest rank
+            long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0L;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return getBucketLowerBound(i);
+                }
+            }
+
+            return getBucketLowerBound(counts.length - 1);
+        }
+
+        @Override
+        public String toString() {
+            return "{" +
+                "count=" + count +
+                ", p50=" + getPercentile(50) +
+                ", p90=" + getPercentile(90) +
+                ", p99=" + getPercentile(99) +
+                ", max=" + getPercentile(100) +
+                '}';
+        }
+    }
+}
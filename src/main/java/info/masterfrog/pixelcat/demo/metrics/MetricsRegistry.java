@@ -0,0 +1,62 @@
+package info.masterfrog.pixelcat.demo.metrics;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+public class MetricsRegistry {
+    private static MetricsRegistry instance = null;
+
+    private ConcurrentMap<String, Counter> counters;
+    private ConcurrentMap<String, Gauge> gauges;
+    private ConcurrentMap<String, Histogram> histograms;
+
+    public static final String FRAME_TIME_NANOS = "frame.timeNanos";
+    public static final String FRAMES_RENDERED = "frame.rendered";
+    public static final String OBJECTS_UPDATED = "objects.updated";
+    public static final String RENDER_DIRTY_PIXELS = "render.dirtyPixels";
+    public static final String RENDER_FULL_REPAINTS = "render.fullRepaints";
+    public static final String HEAP_USED_BYTES = "heap.usedBytes";
+    public static final String GC_COUNT = "gc.count";
+    public static final String GC_TIME_MILLIS = "gc.timeMillis";
+
+    private MetricsRegistry() {
+        this.counters = new ConcurrentHashMap<>();
+        this.gauges = new ConcurrentHashMap<>();
+        this.histograms = new ConcurrentHashMap<>();
+    }
+
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry();
+        }
+
+        return instance;
+    }
+
+    // metrics are looked up once and held by their recorders, recording itself never touches the registry
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    public Gauge gauge(String name, LongSupplier supplier) {
+        return gauges.computeIfAbsent(name, key -> new Gauge(key, supplier));
+    }
+
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, Histogram::new);
+    }
+
+    public Collection<Counter> getCounters() {
+        return counters.values();
+    }
+
+    public Collection<Gauge> getGauges() {
+        return gauges.values();
+    }
+
+    public Collection<Histogram> getHistograms() {
+        return histograms.values();
+    }
+}
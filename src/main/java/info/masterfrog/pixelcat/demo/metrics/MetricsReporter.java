@@ -0,0 +1,102 @@
+package info.masterfrog.pixelcat.demo.metrics;
+
+import info.masterfrog.pixelcat.engine.common.printer.Printer;
+import info.masterfrog.pixelcat.engine.common.printer.PrinterFactory;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class MetricsReporter {
+    private MetricsRegistry registry;
+    private long intervalMillis;
+    private String fileName;
+    private ScheduledExecutorService executor;
+
+    private static final Printer PRINTER = PrinterFactory.getInstance().createPrinter(MetricsReporter.class);
+
+    public static final String INTERVAL_PROPERTY = "pixelcat.metrics.intervalMillis";
+    public static final String FILE_PROPERTY = "pixelcat.metrics.file";
+    private static final long DEFAULT_INTERVAL_MILLIS = 5000L;
+
+    public MetricsReporter(MetricsRegistry registry, long intervalMillis, String fileName) {
+        this.registry = registry;
+        this.intervalMillis = intervalMillis;
+        this.fileName = fileName;
+    }
+
+    public static MetricsReporter fromSystemProperties(MetricsRegistry registry) {
+        return new MetricsReporter(
+            registry,
+            Long.getLong(INTERVAL_PROPERTY, DEFAULT_INTERVAL_MILLIS),
+            System.getProperty(FILE_PROPERTY)
+        );
+    }
+
+    public MetricsReporter start() {
+        // register jvm gauges, sampled by the reporter rather than on the frame loop
+        List<GarbageCollectorMXBean> garbageCollectors = ManagementFactory.getGarbageCollectorMXBeans();
+        registry.gauge(MetricsRegistry.HEAP_USED_BYTES, () -> ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+        registry.gauge(MetricsRegistry.GC_COUNT, () -> {
+            long count = 0L;
+            for (GarbageCollectorMXBean garbageCollector : garbageCollectors) {
+                count += Math.max(0L, garbageCollector.getCollectionCount());
+            }
+            return count;
+        });
+        registry.gauge(MetricsRegistry.GC_TIME_MILLIS, () -> {
+            long time = 0L;
+            for (GarbageCollectorMXBean garbageCollector : garbageCollectors) {
+                time += Math.max(0L, garbageCollector.getCollectionTime());
+            }
+            return time;
+        });
+
+        // schedule reports off the frame loop
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pixelcat-metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::report, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+        return this;
+    }
+
+    public void stop() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private void report() {
+        // snapshot registry
+        StringBuilder report = new StringBuilder("metrics");
+        for (Counter counter : registry.getCounters()) {
+            report.append(' ').append(counter.getName()).append('=').append(counter.get());
+        }
+        for (Gauge gauge : registry.getGauges()) {
+            report.append(' ').append(gauge.getName()).append('=').append(gauge.get());
+        }
+        for (Histogram histogram : registry.getHistograms()) {
+            report.append(' ').append(histogram.getName()).append('=').append(histogram.snapshot(true));
+        }
+
+        // write report
+        if (fileName == null) {
+            PRINTER.printInfo(report.toString());
+            return;
+        }
+        try (Writer writer = new FileWriter(fileName, true)) {
+            writer.write(System.currentTimeMillis() + " " + report + System.lineSeparator());
+        } catch (IOException e) {
+            PRINTER.printWarning("Metrics report could not be written... [" + fileName + "]");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package info.masterfrog.pixelcat.demo.resource;
+
+import java.util.concurrent.Callable;
+
+public class AssetScope {
+    private static final ThreadLocal<Object> OWNER = new ThreadLocal<>();
+
+    // owner of assets loaded outside any scope, never released
+    public static final Object UNSCOPED = new Object() {
+        @Override
+        public String toString() {
+            return "UNSCOPED";
+        }
+    };
+
+    private AssetScope() {
+    }
+
+    public static <T> T run(Object owner, Callable<T> loader) throws Exception {
+        // attribute assets cached by the loader to the owner, restoring any enclosing scope after
+        Object enclosingOwner = OWNER.get();
+        OWNER.set(owner);
+        try {
+            return loader.call();
+        } finally {
+            if (enclosingOwner == null) {
+                OWNER.remove();
+            } else {
+                OWNER.set(enclosingOwner);
+            }
+        }
+    }
+
+    public static Object getOwner() {
+        Object owner = OWNER.get();
+
+        return owner == null ? UNSCOPED : owner;
+    }
+}
@@ -0,0 +1,341 @@
+package info.masterfrog.pixelcat.demo.resource;
+
+import info.masterfrog.pixelcat.engine.exception.GameErrorCode;
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.logic.resource.Resource;
+import info.masterfrog.pixelcat.engine.logic.resource.ResourceFactory;
+import info.masterfrog.pixelcat.engine.logic.resource.SoundResource;
+import info.masterfrog.pixelcat.engine.logic.resource.SpriteSheet;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+public class ResourceCache {
+    private static ResourceCache instance = null;
+
+    private Map<SpriteSheetKey, SpriteSheet> spriteSheets;
+    private Map<SpriteKey, Resource> spriteResources;
+    private Map<SpriteKey, Resource> imageResources;
+    private Map<TextKey, Resource> textResources;
+    private Map<SoundKey, SoundResource> soundResources;
+    private Map<Object, Set<Object>> owners;
+
+    private static ResourceFactory resourceFactory = ResourceFactory.getInstance();
+
+    private ResourceCache() {
+        this.spriteSheets = new HashMap<>();
+        this.spriteResources = new HashMap<>();
+        this.imageResources = new HashMap<>();
+        this.textResources = new HashMap<>();
+        this.soundResources = new HashMap<>();
+        this.owners = new HashMap<>();
+    }
+
+    public static synchronized ResourceCache getInstance() {
+        if (instance == null) {
+            instance = new ResourceCache();
+        }
+
+        return instance;
+    }
+
+    public synchronized SpriteSheet getSpriteSheet(String fileName, Integer cellWidth, Integer cellHeight, Integer... layout)
+            throws TransientGameException {
+        // generate key
+        SpriteSheetKey key = new SpriteSheetKey(fileName, cellWidth, cellHeight, layout);
+
+        // check cache
+        own(key);
+        if (spriteSheets.containsKey(key)) {
+            return spriteSheets.get(key);
+        }
+
+        // generate sprite sheet with the factory signature matching the given layout
+        SpriteSheet spriteSheet;
+        switch (layout.length) {
+            case 0:
+                spriteSheet = resourceFactory.createSpriteSheet(fileName, cellWidth, cellHeight);
+                break;
+            case 1:
+                spriteSheet = resourceFactory.createSpriteSheet(fileName, cellWidth, cellHeight, layout[0]);
+                break;
+            case 4:
+                spriteSheet = resourceFactory.createSpriteSheet(
+                    fileName,
+                    cellWidth, cellHeight,
+                    layout[0], layout[1], layout[2], layout[3]
+                );
+                break;
+            default:
+                throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        // store sprite sheet against key
+        spriteSheets.put(key, spriteSheet);
+
+        return spriteSheet;
+    }
+
+    public synchronized Resource getSpriteResource(Integer x, Integer y, SpriteSheet spriteSheet) throws TransientGameException {
+        // generate key
+        SpriteKey key = new SpriteKey(spriteSheet, x, y);
+
+        // check cache
+        own(key);
+        if (spriteResources.containsKey(key)) {
+            return spriteResources.get(key);
+        }
+
+        // generate sprite resource
+        Resource resource = resourceFactory.createSpriteResource(x, y, spriteSheet);
+
+        // store resource against key
+        spriteResources.put(key, resource);
+
+        return resource;
+    }
+
+    public synchronized Resource getImageResource(Integer x, Integer y, SpriteSheet spriteSheet) throws TransientGameException {
+        // generate key
+        SpriteKey key = new SpriteKey(spriteSheet, x, y);
+
+        // check cache
+        own(key);
+        if (imageResources.containsKey(key)) {
+            return imageResources.get(key);
+        }
+
+        // generate image resource
+        Resource resource = resourceFactory.createImageResource(resourceFactory.createSpriteResource(x, y, spriteSheet));
+
+        // store resource against key
+        imageResources.put(key, resource);
+
+        return resource;
+    }
+
+    public synchronized Resource getTextResource(String text, Font font) throws TransientGameException {
+        // generate key
+        TextKey key = new TextKey(text, font);
+
+        // check cache
+        own(key);
+        if (textResources.containsKey(key)) {
+            return textResources.get(key);
+        }
+
+        // generate text resource
+        Resource resource = resourceFactory.createTextResource(text, font);
+
+        // store resource against key
+        textResources.put(key, resource);
+
+        return resource;
+    }
+
+    public synchronized SoundResource getSoundResource(String fileName) throws TransientGameException {
+        // generate key
+        SoundKey key = new SoundKey(fileName);
+
+        // check cache
+        own(key);
+        if (soundResources.containsKey(key)) {
+            return soundResources.get(key);
+        }
+
+        // generate sound resource
+        SoundResource soundResource = resourceFactory.createSoundResource(fileName);
+
+        // store sound resource against key
+        soundResources.put(key, soundResource);
+
+        return soundResource;
+    }
+
+    public synchronized ResourceCache release(Object owner) {
+        // drop the owner from every entry, evicting entries no other owner holds
+        Iterator<Map.Entry<Object, Set<Object>>> iterator = owners.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, Set<Object>> entry = iterator.next();
+            if (!entry.getValue().remove(owner) || !entry.getValue().isEmpty()) {
+                continue;
+            }
+            spriteSheets.remove(entry.getKey());
+            spriteResources.remove(entry.getKey());
+            imageResources.remove(entry.getKey());
+            textResources.remove(entry.getKey());
+            soundResources.remove(entry.getKey());
+            iterator.remove();
+        }
+
+        return this;
+    }
+
+    private void own(Object key) {
+        // record the scope the entry is requested from
+        owners.computeIfAbsent(key, k -> new HashSet<>()).add(AssetScope.getOwner());
+    }
+
+    private class SpriteSheetKey {
+        private String fileName;
+        private int[] geometry;
+
+        private SpriteSheetKey(String fileName, Integer cellWidth, Integer cellHeight, Integer[] layout) {
+            this.fileName = fileName;
+            this.geometry = new int[layout.length + 2];
+            this.geometry[0] = cellWidth;
+            this.geometry[1] = cellHeight;
+            for (int i = 0; i < layout.length; i++) {
+                this.geometry[i + 2] = layout[i];
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SpriteSheetKey)) {
+                return false;
+            }
+
+            SpriteSheetKey that = (SpriteSheetKey) o;
+
+            if (!fileName.equals(that.fileName)) {
+                return false;
+            }
+
+            return Arrays.equals(geometry, that.geometry);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * fileName.hashCode() + Arrays.hashCode(geometry);
+        }
+
+        @Override
+        public String toString() {
+            return "SpriteSheetKey{" +
+                "fileName='" + fileName + '\'' +
+                ", geometry=" + Arrays.toString(geometry) +
+                '}';
+        }
+    }
+
+    private class SpriteKey {
+        // sprite sheets are themselves cached per file, so sheet identity stands in for the file
+        private SpriteSheet spriteSheet;
+        private int x;
+        private int y;
+
+        private SpriteKey(SpriteSheet spriteSheet, Integer x, Integer y) {
+            this.spriteSheet = spriteSheet;
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SpriteKey)) {
+                return false;
+            }
+
+            SpriteKey that = (SpriteKey) o;
+
+            return spriteSheet == that.spriteSheet && x == that.x && y == that.y;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(spriteSheet) + x) + y;
+        }
+
+        @Override
+        public String toString() {
+            return "SpriteKey{" +
+                "spriteSheet=" + spriteSheet +
+                ", x=" + x +
+                ", y=" + y +
+                '}';
+        }
+    }
+
+    private class TextKey {
+        private String text;
+        private Font font;
+
+        private TextKey(String text, Font font) {
+            this.text = text;
+            this.font = font;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TextKey)) {
+                return false;
+            }
+
+            TextKey that = (TextKey) o;
+
+            return text.equals(that.text) && font.equals(that.font);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * text.hashCode() + font.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TextKey{" +
+                "text='" + text + '\'' +
+                ", font=" + font +
+                '}';
+        }
+    }
+
+    private class SoundKey {
+        private String fileName;
+
+        private SoundKey(String fileName) {
+            this.fileName = fileName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SoundKey)) {
+                return false;
+            }
+
+            SoundKey that = (SoundKey) o;
+
+            return fileName.equals(that.fileName);
+        }
+
+        @Override
+        public int hashCode() {
+            return fileName.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "SoundKey{" +
+                "fileName='" + fileName + '\'' +
+                '}';
+        }
+    }
+}
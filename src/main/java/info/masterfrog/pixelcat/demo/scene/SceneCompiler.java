@@ -0,0 +1,184 @@
+package info.masterfrog.pixelcat.demo.scene;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// compiles text scene descriptions into the binary scene format, one .bin next to each .scene at build time, and
+// in memory for the scene loader when a run skipped that build step
+//   field <sheet file> <cell width> <cell height> [layout...] cels <cel count>
+//   prop <x> <y> <cel> <period millis>                  x and y as fractions of the screen bounds
+//   scatter <count> <seed> <period millis>...           seeded random props over the whole screen
+public class SceneCompiler {
+    // usage: SceneCompiler <scene dir>
+    public static void main(String[] args) throws IOException {
+        // validate
+        if (args.length != 1) {
+            throw new IllegalArgumentException("usage: SceneCompiler <scene dir>");
+        }
+
+        // compile every scene in the directory
+        File[] sceneFiles = new File(args[0]).listFiles((directory, name) -> name.endsWith(".scene"));
+        if (sceneFiles == null) {
+            return;
+        }
+        for (File sceneFile : sceneFiles) {
+            String name = sceneFile.getName();
+            compile(sceneFile, new File(sceneFile.getParentFile(), name.substring(0, name.length() - ".scene".length()) + ".bin"));
+        }
+    }
+
+    static void compile(File sceneFile, File binaryFile) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(sceneFile.toPath(), StandardCharsets.UTF_8)) {
+            Files.write(binaryFile.toPath(), compile(reader, sceneFile.getName()));
+        }
+    }
+
+    public static byte[] compile(BufferedReader reader, String sceneName) throws IOException {
+        // parse
+        List<Field> fields = new ArrayList<>();
+        Field field = null;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] tokens = line.split("\\s+");
+            switch (tokens[0]) {
+                case "field":
+                    field = parseField(tokens, sceneName, lineNumber);
+                    fields.add(field);
+                    break;
+                case "prop":
+                    requireField(field, sceneName, lineNumber).addProp(
+                        Double.parseDouble(tokens[1]), Double.parseDouble(tokens[2]),
+                        Integer.parseInt(tokens[3]), Integer.parseInt(tokens[4])
+                    );
+                    break;
+                case "scatter":
+                    scatter(requireField(field, sceneName, lineNumber), tokens);
+                    break;
+                default:
+                    throw new IOException("Unknown scene directive... [" + sceneName + ":" + lineNumber + "]");
+            }
+        }
+
+        // write
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(SceneFormat.MAGIC);
+            output.writeShort(SceneFormat.VERSION);
+            output.writeShort(fields.size());
+            for (Field compiledField : fields) {
+                compiledField.write(output);
+            }
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private static Field parseField(String[] tokens, String sceneName, int lineNumber) throws IOException {
+        // validate
+        int celsToken = -1;
+        for (int i = 0; i < tokens.length; i++) {
+            if (tokens[i].equals("cels")) {
+                celsToken = i;
+            }
+        }
+        if (tokens.length < 6 || celsToken < 4 || celsToken != tokens.length - 2) {
+            throw new IOException("Malformed field... [" + sceneName + ":" + lineNumber + "]");
+        }
+
+        // parse sheet geometry
+        Field field = new Field(tokens[1], Integer.parseInt(tokens[2]), Integer.parseInt(tokens[3]), Integer.parseInt(tokens[celsToken + 1]));
+        for (int i = 4; i < celsToken; i++) {
+            field.layout.add(Integer.parseInt(tokens[i]));
+        }
+
+        return field;
+    }
+
+    private static Field requireField(Field field, String sceneName, int lineNumber) throws IOException {
+        if (field == null) {
+            throw new IOException("Prop outside of a field... [" + sceneName + ":" + lineNumber + "]");
+        }
+
+        return field;
+    }
+
+    private static void scatter(Field field, String[] tokens) {
+        // expand deterministically so every build produces the same scene
+        int count = Integer.parseInt(tokens[1]);
+        Random random = new Random(Long.parseLong(tokens[2]));
+        int[] periods = new int[tokens.length - 3];
+        for (int i = 0; i < periods.length; i++) {
+            periods[i] = Integer.parseInt(tokens[i + 3]);
+        }
+        for (int i = 0; i < count; i++) {
+            field.addProp(
+                random.nextDouble(), random.nextDouble(),
+                random.nextInt(field.celCount),
+                periods[random.nextInt(periods.length)]
+            );
+        }
+    }
+
+    private static class Field {
+        private String sheetFileName;
+        private int cellWidth;
+        private int cellHeight;
+        private List<Integer> layout;
+        private int celCount;
+        private List<int[]> props;
+
+        private Field(String sheetFileName, int cellWidth, int cellHeight, int celCount) {
+            this.sheetFileName = sheetFileName;
+            this.cellWidth = cellWidth;
+            this.cellHeight = cellHeight;
+            this.layout = new ArrayList<>();
+            this.celCount = celCount;
+            this.props = new ArrayList<>();
+        }
+
+        private void addProp(double x, double y, int cel, int period) {
+            // validate
+            if (x < 0.0 || x >= 1.0 || y < 0.0 || y >= 1.0 || cel < 0 || cel >= celCount || period <= 0 || period > 0xFFFF) {
+                throw new IllegalArgumentException("Prop out of range... [" + sheetFileName + " " + x + "," + y + "," + cel + "," + period + "]");
+            }
+
+            props.add(new int[] {
+                (int) (x * SceneFormat.POSITION_SCALE), (int) (y * SceneFormat.POSITION_SCALE), cel, period
+            });
+        }
+
+        private void write(DataOutputStream output) throws IOException {
+            byte[] sheetName = sheetFileName.getBytes(StandardCharsets.UTF_8);
+            output.writeShort(sheetName.length);
+            output.write(sheetName);
+            output.writeShort(cellWidth);
+            output.writeShort(cellHeight);
+            output.writeByte(layout.size());
+            for (Integer value : layout) {
+                output.writeInt(value);
+            }
+            output.writeByte(celCount);
+            output.writeInt(props.size());
+            for (int[] prop : props) {
+                output.writeShort(prop[0]);
+                output.writeShort(prop[1]);
+                output.writeByte(prop[2]);
+                output.writeShort(prop[3]);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package info.masterfrog.pixelcat.demo.scene;
+
+// binary scene layout, big-endian:
+//   int magic, short version, short field count, then per field
+//     short sheet name length, sheet name utf-8 bytes, short cell width, short cell height,
+//     byte layout length, int layout..., byte cel count, int prop count, then per prop
+//       ushort x, ushort y as fractions of the screen bounds in 1/65536ths, byte cel, ushort period millis
+public final class SceneFormat {
+    public static final int MAGIC = 0x5043534E;
+    public static final short VERSION = 1;
+    public static final int PROP_BYTES = 7;
+    public static final int POSITION_SCALE = 1 << 16;
+
+    private SceneFormat() {
+    }
+}
@@ -0,0 +1,154 @@
+package info.masterfrog.pixelcat.demo.scene;
+
+import com.google.common.io.ByteStreams;
+import info.masterfrog.pixelcat.demo.gameobject.field.BushField;
+import info.masterfrog.pixelcat.demo.resource.ResourceCache;
+import info.masterfrog.pixelcat.engine.common.printer.Printer;
+import info.masterfrog.pixelcat.engine.common.printer.PrinterFactory;
+import info.masterfrog.pixelcat.engine.exception.GameErrorCode;
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.logic.resource.Resource;
+import info.masterfrog.pixelcat.engine.logic.resource.SpriteSheet;
+
+import java.awt.*;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class SceneLoader {
+    private static SceneLoader instance = null;
+
+    private static ResourceCache resourceCache = ResourceCache.getInstance();
+
+    private static final String BINARY_EXTENSION = ".bin";
+    private static final String SOURCE_EXTENSION = ".scene";
+
+    private static final Printer PRINTER = PrinterFactory.getInstance().createPrinter(SceneLoader.class);
+
+    private SceneLoader() {
+    }
+
+    public static synchronized SceneLoader getInstance() {
+        if (instance == null) {
+            instance = new SceneLoader();
+        }
+
+        return instance;
+    }
+
+    public List<BushField> load(String resourceName, Rectangle bounds) throws TransientGameException {
+        // read every field in one sequential pass over the mapped scene
+        ByteBuffer buffer = map(resourceName);
+        try {
+            // validate header
+            if (buffer.getInt() != SceneFormat.MAGIC || buffer.getShort() != SceneFormat.VERSION) {
+                PRINTER.printWarning("Not a compiled scene... [" + resourceName + "]");
+                throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+            }
+
+            // read fields
+            int fieldCount = buffer.getShort();
+            List<BushField> fields = new ArrayList<>(fieldCount);
+            for (int i = 0; i < fieldCount; i++) {
+                fields.add(readField(buffer, bounds));
+            }
+
+            return fields;
+        } catch (BufferUnderflowException e) {
+            PRINTER.printWarning("Truncated scene... [" + resourceName + "]");
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+    }
+
+    private BushField readField(ByteBuffer buffer, Rectangle bounds) throws TransientGameException {
+        // read sheet geometry
+        byte[] sheetName = new byte[buffer.getShort()];
+        buffer.get(sheetName);
+        int cellWidth = buffer.getShort();
+        int cellHeight = buffer.getShort();
+        Integer[] layout = new Integer[buffer.get() & 0xFF];
+        for (int i = 0; i < layout.length; i++) {
+            layout[i] = buffer.getInt();
+        }
+        int celCount = buffer.get() & 0xFF;
+
+        // fetch shared resources
+        SpriteSheet spriteSheet = resourceCache.getSpriteSheet(
+            new String(sheetName, StandardCharsets.UTF_8), cellWidth, cellHeight, layout
+        );
+        Resource[] cels = new Resource[celCount];
+        for (int i = 0; i < celCount; i++) {
+            cels[i] = resourceCache.getSpriteResource(i, 0, spriteSheet);
+        }
+
+        // read props straight into the field, scaling positions to the screen and layering by y
+        int propCount = buffer.getInt();
+        BushField field = new BushField(propCount, Arrays.asList(cels));
+        for (int i = 0; i < propCount; i++) {
+            int x = (int) (((long) (buffer.getShort() & 0xFFFF) * bounds.width) / SceneFormat.POSITION_SCALE);
+            int y = (int) (((long) (buffer.getShort() & 0xFFFF) * bounds.height) / SceneFormat.POSITION_SCALE);
+            int cel = buffer.get() & 0xFF;
+            long period = buffer.getShort() & 0xFFFF;
+            field.add(x, y, y, cel, period);
+        }
+
+        return field;
+    }
+
+    private ByteBuffer map(String resourceName) throws TransientGameException {
+        // locate scene, compiling its source when the build did not
+        URL url = SceneLoader.class.getClassLoader().getResource(resourceName);
+        if (url == null) {
+            return compile(resourceName);
+        }
+
+        try {
+            // map scenes on disk, the mapping outlives the channel
+            if ("file".equals(url.getProtocol())) {
+                try (FileChannel channel = FileChannel.open(Paths.get(url.toURI()), StandardOpenOption.READ)) {
+                    return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
+
+            // scenes packaged in a jar cannot be mapped, read them in one go instead
+            try (InputStream inputStream = url.openStream()) {
+                return ByteBuffer.wrap(ByteStreams.toByteArray(inputStream));
+            }
+        } catch (IOException | URISyntaxException e) {
+            PRINTER.printWarning("Unreadable scene... [" + resourceName + "]");
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+    }
+
+    private ByteBuffer compile(String resourceName) throws TransientGameException {
+        // locate scene source
+        String sourceName = resourceName.endsWith(BINARY_EXTENSION) ?
+            resourceName.substring(0, resourceName.length() - BINARY_EXTENSION.length()) + SOURCE_EXTENSION :
+            null;
+        InputStream inputStream = sourceName == null ? null : SceneLoader.class.getClassLoader().getResourceAsStream(sourceName);
+        if (inputStream == null) {
+            PRINTER.printWarning("Unknown scene... [" + resourceName + "]");
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+
+        // compile in memory
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            return ByteBuffer.wrap(SceneCompiler.compile(reader, sourceName));
+        } catch (IOException | IllegalArgumentException e) {
+            PRINTER.printWarning("Scene could not be compiled... [" + sourceName + "]");
+            throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        }
+    }
+}
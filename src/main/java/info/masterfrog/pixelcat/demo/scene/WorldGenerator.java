@@ -0,0 +1,88 @@
+package info.masterfrog.pixelcat.demo.scene;
+
+import info.masterfrog.pixelcat.engine.common.printer.Printer;
+import info.masterfrog.pixelcat.engine.common.printer.PrinterFactory;
+import info.masterfrog.pixelcat.engine.exception.GameErrorCode;
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+// seeded procedural generation, every chunk draws from its own stream derived from the world seed and
+// the chunk key alone, so chunks generate in any order or in parallel and still come out identical
+public class WorldGenerator {
+    private long seed;
+    private ForkJoinPool pool;
+
+    public static final String SEED_PROPERTY = "pixelcat.world.seed";
+    private static final long DEFAULT_SEED = 20160717L;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final Printer PRINTER = PrinterFactory.getInstance().createPrinter(WorldGenerator.class);
+
+    public interface ChunkGenerator<T> {
+        T generate(long chunkKey, SplittableRandom random) throws TransientGameException;
+    }
+
+    public WorldGenerator(long seed, ForkJoinPool pool) {
+        this.seed = seed;
+        this.pool = pool;
+    }
+
+    public static WorldGenerator create(ForkJoinPool pool) {
+        return new WorldGenerator(Long.getLong(SEED_PROPERTY, DEFAULT_SEED), pool);
+    }
+
+    public static long getChunkKey(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
+
+    public SplittableRandom getStream(long chunkKey) {
+        // mix seed and key so neighbouring keys start unrelated streams
+        long z = seed + (chunkKey + 1L) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+        return new SplittableRandom(z ^ (z >>> 31));
+    }
+
+    public <T> T generate(long chunkKey, ChunkGenerator<T> generator) throws TransientGameException {
+        return generator.generate(chunkKey, getStream(chunkKey));
+    }
+
+    public <T> List<T> generate(int chunkCount, ChunkGenerator<T> generator) throws TransientGameException {
+        // generate chunks keyed 0 to count across the pool
+        List<ForkJoinTask<T>> tasks = new ArrayList<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            long chunkKey = chunk;
+            tasks.add(pool.submit(() -> generate(chunkKey, generator)));
+        }
+
+        // collect in chunk order
+        List<T> chunks = new ArrayList<>(chunkCount);
+        for (ForkJoinTask<T> task : tasks) {
+            try {
+                chunks.add(task.get());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof TransientGameException) {
+                    throw (TransientGameException) e.getCause();
+                }
+                PRINTER.printWarning("Chunk generation failed... [" + seed + "]");
+                throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TransientGameException(GameErrorCode.LOGIC_ERROR);
+            }
+        }
+
+        return chunks;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,192 @@
+package info.masterfrog.pixelcat.demo.sound;
+
+import info.masterfrog.pixelcat.engine.common.printer.Printer;
+import info.masterfrog.pixelcat.engine.common.printer.PrinterFactory;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class AudioMixer {
+    private static AudioMixer instance = null;
+
+    private Queue<Voice> pendingVoices;
+    private Queue<Voice> freeVoices;
+    private List<Voice> voices;
+    private SourceDataLine line;
+    private Thread thread;
+    private volatile boolean running;
+
+    public static final float SAMPLE_RATE = 44100f;
+    public static final int CHANNELS = 2;
+    public static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, CHANNELS, true, false);
+
+    // ~6ms mix periods over a line holding three of them, streamed voices decoding up to ~250ms ahead
+    private static final int PERIOD_FRAMES = 256;
+    private static final int LINE_PERIODS = 3;
+    private static final int RING_FRAMES = (int) SAMPLE_RATE / 4;
+    private static final int VOICE_POOL_SIZE = 16;
+
+    private static final Printer PRINTER = PrinterFactory.getInstance().createPrinter(AudioMixer.class);
+
+    private AudioMixer() {
+        this.pendingVoices = new ConcurrentLinkedQueue<>();
+        this.freeVoices = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < VOICE_POOL_SIZE; i++) {
+            freeVoices.add(new Voice());
+        }
+        this.voices = new ArrayList<>();
+        this.running = false;
+    }
+
+    public static synchronized AudioMixer getInstance() {
+        if (instance == null) {
+            instance = new AudioMixer();
+        }
+
+        return instance;
+    }
+
+    public synchronized AudioMixer start() throws LineUnavailableException {
+        // start once
+        if (running) {
+            return this;
+        }
+
+        // open output line
+        line = AudioSystem.getSourceDataLine(FORMAT);
+        line.open(FORMAT, PERIOD_FRAMES * CHANNELS * 2 * LINE_PERIODS);
+        line.start();
+
+        // start mixer thread
+        running = true;
+        thread = new Thread(this::mix, "pixelcat-audio-mixer");
+        thread.setDaemon(true);
+        thread.start();
+
+        return this;
+    }
+
+    public synchronized void stop() {
+        // stop once
+        if (!running) {
+            return;
+        }
+
+        // let the mixer thread finish its period and release its voices, then close the line
+        running = false;
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        line.drain();
+        line.close();
+        thread = null;
+        line = null;
+    }
+
+    public Voice play(String fileName, float gain) {
+        // hand the voice to the mixer thread, decoding starts there
+        Voice voice = new Voice(fileName, gain, RING_FRAMES);
+        pendingVoices.add(voice);
+
+        return voice;
+    }
+
+    public boolean playEffect(String fileName, float gain) {
+        // nothing to play through without an output line
+        if (!running) {
+            return false;
+        }
+
+        // effects need pcm preloaded off the caller's thread, anything else is streamed and decoded by the mixer
+        short[] pcm = PcmCache.getInstance().getCached(fileName);
+        if (pcm == null) {
+            play(fileName, gain);
+
+            return true;
+        }
+
+        // take a pooled voice, dropping the effect when every voice is busy
+        Voice voice = freeVoices.poll();
+        if (voice == null) {
+            return false;
+        }
+        pendingVoices.add(voice.reset(fileName, pcm, gain));
+
+        return true;
+    }
+
+    private void mix() {
+        // setup
+        int samples = PERIOD_FRAMES * CHANNELS;
+        int[] mix = new int[samples];
+        byte[] output = new byte[samples * 2];
+
+        while (running) {
+            // admit new voices
+            Voice pendingVoice;
+            while ((pendingVoice = pendingVoices.poll()) != null) {
+                try {
+                    pendingVoice.open();
+                    voices.add(pendingVoice);
+                } catch (IOException | UnsupportedAudioFileException | IllegalArgumentException e) {
+                    PRINTER.printWarning("Sound could not be decoded... [" + pendingVoice.getFileName() + "]");
+                    pendingVoice.close();
+                }
+            }
+
+            // decode ahead and mix every voice
+            Arrays.fill(mix, 0);
+            for (int i = voices.size() - 1; i >= 0; i--) {
+                Voice voice = voices.get(i);
+                try {
+                    voice.fill();
+                } catch (IOException e) {
+                    PRINTER.printWarning("Sound decoding failed... [" + voice.getFileName() + "]");
+                    voice.stop();
+                }
+                voice.mixInto(mix, samples);
+                if (voice.isFinished()) {
+                    voice.close();
+                    voices.remove(i);
+                    if (voice.isPooled()) {
+                        freeVoices.add(voice);
+                    }
+                }
+            }
+
+            // clamp to 16 bit little-endian and write, blocking paces the loop to the line
+            for (int i = 0; i < samples; i++) {
+                int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mix[i]));
+                output[i * 2] = (byte) sample;
+                output[i * 2 + 1] = (byte) (sample >> 8);
+            }
+            line.write(output, 0, output.length);
+        }
+
+        // release
+        for (Voice voice : voices) {
+            voice.close();
+            if (voice.isPooled()) {
+                freeVoices.add(voice);
+            }
+        }
+        voices.clear();
+    }
+}
@@ -0,0 +1,122 @@
+package info.masterfrog.pixelcat.demo.sound;
+
+import info.masterfrog.pixelcat.demo.resource.AssetScope;
+import info.masterfrog.pixelcat.engine.common.printer.Printer;
+import info.masterfrog.pixelcat.engine.common.printer.PrinterFactory;
+
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+public class PcmCache {
+    private static PcmCache instance = null;
+
+    private long maxBytes;
+    private long maxEntryBytes;
+    private long bytes;
+    private LinkedHashMap<String, short[]> sounds;
+    private Map<String, Set<Object>> owners;
+
+    public static final String MAX_BYTES_PROPERTY = "pixelcat.pcmCache.maxBytes";
+    public static final String MAX_ENTRY_BYTES_PROPERTY = "pixelcat.pcmCache.maxEntryBytes";
+    private static final long DEFAULT_MAX_BYTES = 16L * 1024L * 1024L;
+    private static final long DEFAULT_MAX_ENTRY_BYTES = 8L * 1024L * 1024L;
+
+    private static final Printer PRINTER = PrinterFactory.getInstance().createPrinter(PcmCache.class);
+
+    public PcmCache(long maxBytes, long maxEntryBytes) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxBytes);
+        this.bytes = 0L;
+        // access order, so iteration starts at the least recently played sound
+        this.sounds = new LinkedHashMap<>(16, 0.75f, true);
+        this.owners = new HashMap<>();
+    }
+
+    public static synchronized PcmCache getInstance() {
+        if (instance == null) {
+            instance = new PcmCache(
+                Long.getLong(MAX_BYTES_PROPERTY, DEFAULT_MAX_BYTES),
+                Long.getLong(MAX_ENTRY_BYTES_PROPERTY, DEFAULT_MAX_ENTRY_BYTES)
+            );
+        }
+
+        return instance;
+    }
+
+    public synchronized short[] getCached(String fileName) {
+        // check cache only, never decoding, playing a sound leaves it to the owners that loaded it
+        return sounds.get(fileName);
+    }
+
+    public synchronized short[] get(String fileName) {
+        // check cache
+        short[] pcm = sounds.get(fileName);
+        if (pcm != null) {
+            owners.get(fileName).add(AssetScope.getOwner());
+
+            return pcm;
+        }
+
+        // decode once, sounds too large for an entry stay streamed
+        try {
+            pcm = new PcmDecoder(fileName).readFully((int) Math.min(Integer.MAX_VALUE, maxEntryBytes / 2L));
+        } catch (IOException | UnsupportedAudioFileException | IllegalArgumentException e) {
+            PRINTER.printWarning("Sound could not be decoded... [" + fileName + "]");
+
+            return null;
+        }
+        if (pcm == null) {
+            return null;
+        }
+        long pcmBytes = pcm.length * 2L;
+
+        // evict least recently played sounds until the new one fits
+        Iterator<Map.Entry<String, short[]>> iterator = sounds.entrySet().iterator();
+        while (bytes + pcmBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, short[]> evicted = iterator.next();
+            bytes -= evicted.getValue().length * 2L;
+            owners.remove(evicted.getKey());
+            iterator.remove();
+        }
+
+        // store pcm against file name
+        sounds.put(fileName, pcm);
+        owners.computeIfAbsent(fileName, key -> new HashSet<>()).add(AssetScope.getOwner());
+        bytes += pcmBytes;
+
+        return pcm;
+    }
+
+    public boolean preload(String fileName) {
+        return get(fileName) != null;
+    }
+
+    public synchronized PcmCache release(Object owner) {
+        // drop the owner from every sound, evicting sounds no other owner holds
+        Iterator<Map.Entry<String, Set<Object>>> iterator = owners.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Set<Object>> entry = iterator.next();
+            if (!entry.getValue().remove(owner) || !entry.getValue().isEmpty()) {
+                continue;
+            }
+            bytes -= sounds.remove(entry.getKey()).length * 2L;
+            iterator.remove();
+        }
+
+        return this;
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized int size() {
+        return sounds.size();
+    }
+}
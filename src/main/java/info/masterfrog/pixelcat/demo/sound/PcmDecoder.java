@@ -0,0 +1,136 @@
+package info.masterfrog.pixelcat.demo.sound;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class PcmDecoder {
+    private String fileName;
+    private AudioInputStream decoder;
+    private int channels;
+    private byte[] decodeBuffer;
+    private int decodeBufferLength;
+    private boolean endOfStream;
+
+    private static final String SOUND_DIRECTORY = "sounds/";
+
+    public PcmDecoder(String fileName) throws IOException, UnsupportedAudioFileException {
+        this.fileName = fileName;
+        this.decodeBuffer = new byte[4096];
+        this.decodeBufferLength = 0;
+        this.endOfStream = false;
+
+        // locate sound
+        InputStream inputStream = PcmDecoder.class.getClassLoader().getResourceAsStream(SOUND_DIRECTORY + fileName);
+        if (inputStream == null) {
+            throw new IOException("Unknown sound... [" + fileName + "]");
+        }
+
+        // decode to 16 bit little-endian pcm at the mixer rate, read incrementally
+        AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(inputStream));
+        AudioFormat sourceFormat = source.getFormat();
+        if (sourceFormat.getChannels() > AudioMixer.CHANNELS) {
+            throw new UnsupportedAudioFileException("Unsupported channel count... [" + fileName + "]");
+        }
+        channels = sourceFormat.getChannels();
+        AudioFormat pcmFormat = new AudioFormat(
+            AudioFormat.Encoding.PCM_SIGNED,
+            sourceFormat.getSampleRate(), 16, channels,
+            channels * 2, sourceFormat.getSampleRate(),
+            false
+        );
+        decoder = AudioSystem.getAudioInputStream(pcmFormat, source);
+        if (sourceFormat.getSampleRate() != AudioMixer.SAMPLE_RATE) {
+            decoder = AudioSystem.getAudioInputStream(
+                new AudioFormat(AudioMixer.SAMPLE_RATE, 16, channels, true, false),
+                decoder
+            );
+        }
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public boolean isEndOfStream() {
+        return endOfStream;
+    }
+
+    public int read(short[] samples, int offset, int length) throws IOException {
+        // decode one buffer, returning -1 once the stream is exhausted
+        if (endOfStream) {
+            return -1;
+        }
+        int frameBytes = channels * 2;
+        int maxFrames = Math.min(length / AudioMixer.CHANNELS, decodeBuffer.length / frameBytes);
+        int read = decoder.read(decodeBuffer, decodeBufferLength, maxFrames * frameBytes - decodeBufferLength);
+        if (read < 0) {
+            endOfStream = true;
+            close();
+
+            return -1;
+        }
+        decodeBufferLength += read;
+
+        // move whole frames out as interleaved stereo, upmixing mono
+        int frames = decodeBufferLength / frameBytes;
+        int sample = offset;
+        for (int frame = 0; frame < frames; frame++) {
+            for (int channel = 0; channel < AudioMixer.CHANNELS; channel++) {
+                int byteOffset = frame * frameBytes + Math.min(channel, channels - 1) * 2;
+                samples[sample++] = (short) ((decodeBuffer[byteOffset] & 0xff) | (decodeBuffer[byteOffset + 1] << 8));
+            }
+        }
+
+        // keep any partial frame for the next read
+        int consumed = frames * frameBytes;
+        System.arraycopy(decodeBuffer, consumed, decodeBuffer, 0, decodeBufferLength - consumed);
+        decodeBufferLength -= consumed;
+
+        return frames * AudioMixer.CHANNELS;
+    }
+
+    public short[] readFully(int maxSamples) throws IOException {
+        // decode the whole stream, giving up once it exceeds the limit, capacity keeps room for one more
+        // read past the limit so a stream ending exactly on it still completes
+        int maxCapacity = (int) Math.min(Integer.MAX_VALUE - 8, (long) maxSamples + decodeBuffer.length);
+        short[] samples = new short[Math.min(maxCapacity, (int) AudioMixer.SAMPLE_RATE * AudioMixer.CHANNELS)];
+        int length = 0;
+        int read;
+        while (true) {
+            if (length > maxSamples) {
+                close();
+
+                return null;
+            }
+            if (samples.length - length < decodeBuffer.length) {
+                short[] grown = new short[(int) Math.min(maxCapacity, samples.length * 2L)];
+                System.arraycopy(samples, 0, grown, 0, length);
+                samples = grown;
+            }
+            read = read(samples, length, samples.length - length);
+            if (read < 0) {
+                break;
+            }
+            length += read;
+        }
+
+        // trim
+        short[] trimmed = new short[length];
+        System.arraycopy(samples, 0, trimmed, 0, length);
+
+        return trimmed;
+    }
+
+    public void close() {
+        try {
+            decoder.close();
+        } catch (IOException e) {
+            // nothing left to release
+        }
+    }
+}
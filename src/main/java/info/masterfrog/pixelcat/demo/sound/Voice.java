@@ -0,0 +1,149 @@
+package info.masterfrog.pixelcat.demo.sound;
+
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+
+public class Voice {
+    private String fileName;
+    private volatile float gain;
+    private volatile boolean stopped;
+
+    // streamed voices decode ahead into a ring on the mixer thread
+    private PcmDecoder decoder;
+    private short[] ring;
+    private int ringRead;
+    private int ringWrite;
+    private int ringAvailable;
+
+    // pooled voices play pre-decoded pcm
+    private boolean pooled;
+    private short[] pcm;
+    private int pcmPosition;
+
+    Voice(String fileName, float gain, int ringFrames) {
+        this.fileName = fileName;
+        this.gain = gain;
+        this.stopped = false;
+        this.ring = new short[ringFrames * AudioMixer.CHANNELS];
+        this.pooled = false;
+    }
+
+    Voice() {
+        this.stopped = true;
+        this.pooled = true;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public float getGain() {
+        return gain;
+    }
+
+    public Voice setGain(float gain) {
+        this.gain = gain;
+
+        return this;
+    }
+
+    public void stop() {
+        stopped = true;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    boolean isPooled() {
+        return pooled;
+    }
+
+    Voice reset(String fileName, short[] pcm, float gain) {
+        this.fileName = fileName;
+        this.pcm = pcm;
+        this.pcmPosition = 0;
+        this.gain = gain;
+        this.stopped = false;
+
+        return this;
+    }
+
+    void open() throws IOException, UnsupportedAudioFileException {
+        // pre-decoded voices are ready as they are
+        if (pooled) {
+            return;
+        }
+
+        decoder = new PcmDecoder(fileName);
+    }
+
+    void fill() throws IOException {
+        // pre-decoded voices have nothing to decode
+        if (pooled) {
+            return;
+        }
+
+        // decode ahead until the ring is full or the stream ends
+        while (!decoder.isEndOfStream()) {
+            int free = ring.length - ringAvailable;
+            int contiguous = Math.min(free, ring.length - ringWrite);
+            if (free < ring.length / 4) {
+                break;
+            }
+            int read = decoder.read(ring, ringWrite, contiguous);
+            if (read <= 0) {
+                // nothing decoded this time, e.g. the tail before the wrap is too short for a full frame,
+                // leave it for the next period
+                break;
+            }
+            ringWrite = (ringWrite + read) % ring.length;
+            ringAvailable += read;
+        }
+    }
+
+    void mixInto(int[] mix, int samples) {
+        float currentGain = gain;
+
+        // pre-decoded voices mix straight from the shared pcm
+        if (pooled) {
+            int mixed = Math.min(samples, pcm.length - pcmPosition);
+            for (int i = 0; i < mixed; i++) {
+                mix[i] += (int) (pcm[pcmPosition + i] * currentGain);
+            }
+            pcmPosition += mixed;
+
+            return;
+        }
+
+        // accumulate what is buffered, an underrun just leaves silence
+        int mixed = Math.min(samples, ringAvailable);
+        for (int i = 0; i < mixed; i++) {
+            mix[i] += (int) (ring[ringRead] * currentGain);
+            ringRead = (ringRead + 1) % ring.length;
+        }
+        ringAvailable -= mixed;
+    }
+
+    boolean isFinished() {
+        if (pooled) {
+            return stopped || pcmPosition >= pcm.length;
+        }
+
+        return stopped || (decoder.isEndOfStream() && ringAvailable == 0);
+    }
+
+    void close() {
+        // pooled voices drop their pcm reference so evicted entries can be collected
+        if (pooled) {
+            pcm = null;
+            stopped = true;
+
+            return;
+        }
+
+        if (decoder != null) {
+            decoder.close();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package info.masterfrog.pixelcat.demo.tool;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+// writes nearest-neighbour upscaled copies of sprite sheets as "<sheet>-<scale>x.png", the 4x pixel-cat sheets in
+// src/main/resources/images are its output and are re-generated with it whenever their source sheets change
+public class SpriteScaler {
+    // usage: SpriteScaler <image dir> <output dir> <scale> <sheet file>...
+    public static void main(String[] args) throws IOException {
+        // validate
+        if (args.length < 4) {
+            throw new IllegalArgumentException("usage: SpriteScaler <image dir> <output dir> <scale> <sheet file>...");
+        }
+
+        // setup
+        File imageDirectory = new File(args[0]);
+        File outputDirectory = new File(args[1]);
+        int scale = Integer.parseInt(args[2]);
+        outputDirectory.mkdirs();
+
+        for (int i = 3; i < args.length; i++) {
+            // decode sheet
+            BufferedImage image = ImageIO.read(new File(imageDirectory, args[i]));
+            if (image == null) {
+                throw new IOException("Unreadable sprite sheet... [" + args[i] + "]");
+            }
+
+            // write scaled copy
+            BufferedImage scaledImage = scale(image, scale);
+            ImageIO.write(scaledImage, "png", new File(outputDirectory, getScaledFileName(args[i], scale)));
+        }
+    }
+
+    public static BufferedImage scale(BufferedImage source, int scale) {
+        // setup
+        BufferedImage scaledImage = new BufferedImage(source.getWidth() * scale, source.getHeight() * scale, BufferedImage.TYPE_INT_ARGB);
+
+        // draw scaled copy, keeping pixel edges hard
+        Graphics2D graphics = scaledImage.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        graphics.drawImage(source, 0, 0, scaledImage.getWidth(), scaledImage.getHeight(), null);
+        graphics.dispose();
+
+        return scaledImage;
+    }
+
+    public static String getScaledFileName(String fileName, int scale) {
+        int extensionIndex = fileName.lastIndexOf('.');
+
+        return fileName.substring(0, extensionIndex) + "-" + scale + "x" + fileName.substring(extensionIndex);
+    }
+}
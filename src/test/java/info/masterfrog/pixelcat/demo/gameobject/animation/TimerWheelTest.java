@@ -0,0 +1,103 @@
+package info.masterfrog.pixelcat.demo.gameobject.animation;
+
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TimerWheelTest {
+    private List<Integer> expired;
+    private TimerWheel.Expiry recordExpiry;
+
+    @Before
+    public void setUp() {
+        expired = new ArrayList<>();
+        recordExpiry = (entry, deadline, time) -> expired.add(entry);
+    }
+
+    @Test
+    public void expiresEntriesOnceDue() throws TransientGameException {
+        TimerWheel timerWheel = new TimerWheel(2, 10L, 8);
+        timerWheel.schedule(0, 25L).schedule(1, 40L);
+
+        // entry 0 shares the tick of time 20 but is not due until 25
+        assertEquals(0, timerWheel.advance(20L, recordExpiry));
+        assertEquals(1, timerWheel.advance(25L, recordExpiry));
+        assertEquals(0, timerWheel.advance(39L, recordExpiry));
+        assertEquals(1, timerWheel.advance(40L, recordExpiry));
+        assertEquals(2, expired.size());
+        assertEquals(0, (int) expired.get(0));
+        assertEquals(1, (int) expired.get(1));
+    }
+
+    @Test
+    public void keepsEntriesDueOnALaterTurnOfTheWheel() throws TransientGameException {
+        // 4 slots of 10ms span 40ms, a deadline of 100 shares its slot with ticks of earlier turns
+        TimerWheel timerWheel = new TimerWheel(1, 10L, 4);
+        timerWheel.schedule(0, 100L);
+
+        assertEquals(0, timerWheel.advance(0L, recordExpiry));
+        assertEquals(0, timerWheel.advance(25L, recordExpiry));
+        assertEquals(0, timerWheel.advance(65L, recordExpiry));
+        assertTrue(timerWheel.isScheduled(0));
+        assertEquals(1, timerWheel.advance(100L, recordExpiry));
+        assertFalse(timerWheel.isScheduled(0));
+    }
+
+    @Test
+    public void expiresEntriesMissedOverLongStalls() throws TransientGameException {
+        TimerWheel timerWheel = new TimerWheel(2, 10L, 4);
+        timerWheel.schedule(0, 15L).schedule(1, 35L);
+
+        // the stall spans several turns, yet every due entry expires exactly once
+        assertEquals(0, timerWheel.advance(0L, recordExpiry));
+        assertEquals(2, timerWheel.advance(1000L, recordExpiry));
+        assertEquals(0, timerWheel.advance(2000L, recordExpiry));
+    }
+
+    @Test
+    public void expiresEntriesRescheduledByTheirExpiryOnTheNextAdvanceOnly() throws TransientGameException {
+        TimerWheel timerWheel = new TimerWheel(1, 10L, 8);
+        TimerWheel.Expiry rescheduleExpiry = (entry, deadline, time) -> {
+            expired.add(entry);
+            timerWheel.schedule(entry, time + 1L);
+        };
+        timerWheel.schedule(0, 5L);
+
+        assertEquals(1, timerWheel.advance(5L, rescheduleExpiry));
+        assertEquals(6L, timerWheel.getDeadline(0));
+        assertEquals(1, timerWheel.advance(6L, rescheduleExpiry));
+        assertEquals(2, expired.size());
+    }
+
+    @Test
+    public void neverExpiresCancelledEntries() throws TransientGameException {
+        TimerWheel timerWheel = new TimerWheel(2, 10L, 8);
+        timerWheel.schedule(0, 5L).schedule(1, 5L).cancel(0);
+
+        assertFalse(timerWheel.isScheduled(0));
+        assertEquals(1, timerWheel.advance(5L, recordExpiry));
+        assertEquals(1, (int) expired.get(0));
+    }
+
+    @Test
+    public void neverSchedulesIntoTicksAlreadyAdvancedPast() throws TransientGameException {
+        TimerWheel timerWheel = new TimerWheel(1, 10L, 8);
+        timerWheel.advance(100L, recordExpiry);
+
+        // an overdue deadline lands on the current tick rather than a slot only visited a turn later
+        timerWheel.schedule(0, 50L);
+        assertEquals(1, timerWheel.advance(101L, recordExpiry));
+    }
+
+    @Test(expected = TransientGameException.class)
+    public void rejectsSlotCountsNotAPowerOfTwo() throws TransientGameException {
+        new TimerWheel(1, 10L, 6);
+    }
+}
@@ -0,0 +1,68 @@
+package info.masterfrog.pixelcat.demo.gameobject.behavior;
+
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.logic.gameobject.behavior.BehaviorParameterFactory;
+import info.masterfrog.pixelcat.engine.logic.gameobject.behavior.BehaviorParameterId;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class CyclicParameterGeneratorTest {
+    private BehaviorParameterId right;
+    private BehaviorParameterId back;
+    private BehaviorParameterId left;
+
+    @Before
+    public void setUp() {
+        BehaviorParameterFactory behaviorParameterFactory = BehaviorParameterFactory.getInstance();
+        right = behaviorParameterFactory.createIdParameter("camera-right");
+        back = behaviorParameterFactory.createIdParameter("camera-back");
+        left = behaviorParameterFactory.createIdParameter("camera-left");
+    }
+
+    @Test
+    public void cyclesRightBackLeftAndWrapsAround() throws TransientGameException {
+        CyclicParameterGenerator cameraSwitch = new CyclicParameterGenerator(right, back, left);
+
+        // the cat host camera switches right, back, then left, starting over after that
+        for (int turn = 0; turn < 3; turn++) {
+            assertSame(right, cameraSwitch.next());
+            assertSame(back, cameraSwitch.next());
+            assertSame(left, cameraSwitch.next());
+            assertEquals(0, cameraSwitch.getIndex());
+        }
+    }
+
+    @Test
+    public void resetsToTheFirstParameter() throws TransientGameException {
+        CyclicParameterGenerator cameraSwitch = new CyclicParameterGenerator(right, back, left);
+        cameraSwitch.next();
+        cameraSwitch.next();
+        assertEquals(2, cameraSwitch.getIndex());
+
+        assertSame(right, cameraSwitch.reset().next());
+    }
+
+    @Test
+    public void handsOutTheSameIdParametersOnEveryTurn() throws TransientGameException {
+        CyclicParameterGenerator cameraSwitch = CyclicParameterGenerator.ofIds("camera-right", "camera-back", "camera-left");
+        BehaviorParameterId first = cameraSwitch.next();
+        BehaviorParameterId second = cameraSwitch.next();
+        BehaviorParameterId third = cameraSwitch.next();
+        assertNotSame(first, second);
+        assertNotSame(second, third);
+
+        // nothing is created per trigger, later turns reuse the parameters built up front
+        assertSame(first, cameraSwitch.next());
+        assertSame(second, cameraSwitch.next());
+        assertSame(third, cameraSwitch.next());
+    }
+
+    @Test(expected = TransientGameException.class)
+    public void rejectsAnEmptyCycle() throws TransientGameException {
+        new CyclicParameterGenerator();
+    }
+}
@@ -0,0 +1,146 @@
+package info.masterfrog.pixelcat.demo.gameobject.field;
+
+import info.masterfrog.pixelcat.demo.gameobject.spatial.SpatialGrid;
+import info.masterfrog.pixelcat.demo.resource.ResourceCache;
+import info.masterfrog.pixelcat.demo.scene.WorldGenerator;
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObject;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObjectManager;
+import info.masterfrog.pixelcat.engine.logic.gameobject.feature.Renderable;
+import info.masterfrog.pixelcat.engine.logic.resource.Resource;
+import info.masterfrog.pixelcat.engine.logic.resource.SpriteSheet;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BushFieldStreamerTest {
+    private BushField bushField;
+    private Renderable focus;
+    private BushFieldStreamer bushFieldStreamer;
+
+    private static final Rectangle WORLD_BOUNDS = new Rectangle(0, 0, 100000, 100000);
+    private static final Rectangle VIEW_BOUNDS = new Rectangle(0, 0, 1280, 720);
+    private static final int CHUNK_PIXELS = BushFieldStreamer.CHUNK_PIXELS;
+
+    @Before
+    public void setUp() throws TransientGameException {
+        // fetch bush cels
+        ResourceCache resourceCache = ResourceCache.getInstance();
+        SpriteSheet spriteSheet = resourceCache.getSpriteSheet("bush_sprite_sheet.png", 18, 19, 1);
+        List<Resource> cels = Arrays.asList(
+            resourceCache.getSpriteResource(0, 0, spriteSheet),
+            resourceCache.getSpriteResource(1, 0, spriteSheet),
+            resourceCache.getSpriteResource(2, 0, spriteSheet)
+        );
+
+        // stream a world far larger than the view around a focus in its corner
+        bushField = new BushField(
+            BushFieldStreamer.getSlotCount(WORLD_BOUNDS, VIEW_BOUNDS) * BushFieldStreamer.BUSHES_PER_CHUNK,
+            BushFieldStreamer.BUSHES_PER_CHUNK,
+            cels
+        );
+        focus = Renderable.create(new Point(VIEW_BOUNDS.width / 2, VIEW_BOUNDS.height / 2), 0);
+        bushFieldStreamer = new BushFieldStreamer(
+            bushField, GameObjectManager.create(WORLD_BOUNDS.height), new SpatialGrid(WORLD_BOUNDS, 64),
+            new WorldGenerator(7L, ForkJoinPool.commonPool()), focus, WORLD_BOUNDS, VIEW_BOUNDS
+        );
+    }
+
+    @Test
+    public void sizesSlotsToTheChunksAViewCanOverlap() {
+        // 1280x720 spans 5x3 chunks, overlapping up to 6x4, plus a spare column and row
+        assertEquals(7 * 5, bushFieldStreamer.getSlotCount());
+    }
+
+    @Test
+    public void keepsEveryChunkInViewResident() throws TransientGameException {
+        for (int step = 0; step < 200; step++) {
+            focus.getPosition().translate(97, 41);
+            bushFieldStreamer.update();
+            assertViewResident();
+        }
+    }
+
+    @Test
+    public void recyclesSlotsInsteadOfGrowing() throws TransientGameException {
+        bushFieldStreamer.update();
+        GameObject firstGameObject = bushField.getGameObject(0);
+
+        // walk far across the world, well past what the slots hold
+        for (int step = 0; step < 200; step++) {
+            focus.getPosition().translate(97, 41);
+            bushFieldStreamer.update();
+        }
+
+        assertTrue(bushFieldStreamer.getResidentChunkCount() <= bushFieldStreamer.getSlotCount());
+        assertEquals(bushFieldStreamer.getSlotCount() * BushFieldStreamer.BUSHES_PER_CHUNK, bushField.getSize());
+        assertSame(firstGameObject, bushField.getGameObject(0));
+        assertFalse(bushFieldStreamer.isResident(0, 0));
+    }
+
+    @Test
+    public void regeneratesRevisitedChunksIdentically() throws TransientGameException {
+        bushFieldStreamer.update();
+        List<String> firstVisit = getChunkInstances(0, 0);
+
+        // visit enough far away places for the corner's slot to be recycled, then come back
+        for (int jump = 0; jump < 4; jump++) {
+            focus.getPosition().translate(20 * CHUNK_PIXELS, 20 * CHUNK_PIXELS);
+            bushFieldStreamer.update();
+        }
+        assertFalse(bushFieldStreamer.isResident(0, 0));
+        focus.getPosition().setLocation(VIEW_BOUNDS.width / 2, VIEW_BOUNDS.height / 2);
+        bushFieldStreamer.update();
+
+        assertEquals(BushFieldStreamer.BUSHES_PER_CHUNK, firstVisit.size());
+        assertEquals(firstVisit, getChunkInstances(0, 0));
+    }
+
+    @Test
+    public void streamsNothingWhileTheViewStaysOnTheSameChunks() throws TransientGameException {
+        assertTrue(bushFieldStreamer.update() > 0);
+
+        // the view still overlaps the same chunks, clamped at the world's corner
+        focus.getPosition().translate(-10, -10);
+
+        assertEquals(0, bushFieldStreamer.update());
+    }
+
+    private void assertViewResident() {
+        Point position = focus.getPosition();
+        int minColumn = Math.max(0, (position.x - VIEW_BOUNDS.width / 2) / CHUNK_PIXELS);
+        int maxColumn = (position.x - VIEW_BOUNDS.width / 2 + VIEW_BOUNDS.width - 1) / CHUNK_PIXELS;
+        int minRow = Math.max(0, (position.y - VIEW_BOUNDS.height / 2) / CHUNK_PIXELS);
+        int maxRow = (position.y - VIEW_BOUNDS.height / 2 + VIEW_BOUNDS.height - 1) / CHUNK_PIXELS;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                assertTrue("chunk not resident [" + column + "," + row + "]", bushFieldStreamer.isResident(column, row));
+            }
+        }
+    }
+
+    private List<String> getChunkInstances(int column, int row) {
+        // collect the positions, cels and periods of the instances placed within the chunk, in slot independent order
+        Rectangle chunk = new Rectangle(column * CHUNK_PIXELS, row * CHUNK_PIXELS, CHUNK_PIXELS, CHUNK_PIXELS);
+        List<String> instances = new ArrayList<>();
+        for (int i = 0; i < bushField.getSize(); i++) {
+            if (chunk.contains(bushField.getX(i), bushField.getY(i))) {
+                instances.add(bushField.getX(i) + "," + bushField.getY(i) + "," + bushField.getCel(i) + "," + bushField.getPeriod(i));
+            }
+        }
+        Collections.sort(instances);
+
+        return instances;
+    }
+}
@@ -0,0 +1,90 @@
+package info.masterfrog.pixelcat.demo.gameobject.layer;
+
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObject;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObjectManager;
+import info.masterfrog.pixelcat.engine.logic.gameobject.feature.Renderable;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class YSortedLayeringTest {
+    private GameObjectManager gameObjectManager;
+    private YSortedLayering layering;
+
+    @Before
+    public void setUp() {
+        gameObjectManager = GameObjectManager.create(720);
+        layering = new YSortedLayering();
+    }
+
+    @Test
+    public void layersObjectsLowerOnScreenInFront() throws TransientGameException {
+        Renderable back = track(300, 120);
+        Renderable front = track(100, 400);
+        Renderable middle = track(200, 250);
+
+        // every object is layered on the first update, by its y alone
+        assertEquals(3, layering.update());
+        assertTrue(back.getLayer() < middle.getLayer());
+        assertTrue(middle.getLayer() < front.getLayer());
+
+        // walking below another object brings it in front of it
+        back.getPosition().translate(0, 400);
+        assertEquals(1, layering.update());
+        assertTrue(front.getLayer() < back.getLayer());
+        assertEquals(520, (int) back.getLayer());
+    }
+
+    @Test
+    public void relayersOnlyObjectsThatMovedVertically() throws TransientGameException {
+        Renderable still = track(0, 50);
+        Renderable sideways = track(0, 60);
+        Renderable upwards = track(0, 70);
+        assertEquals(3, layering.update());
+        assertEquals(0, layering.update());
+
+        // horizontal moves leave the layer as it is
+        sideways.getPosition().translate(25, 0);
+        upwards.getPosition().translate(0, -30);
+        assertEquals(1, layering.update());
+        assertEquals(50, (int) still.getLayer());
+        assertEquals(60, (int) sideways.getLayer());
+        assertEquals(40, (int) upwards.getLayer());
+    }
+
+    @Test
+    public void relayersEverythingOnceInvalidated() throws TransientGameException {
+        Renderable renderable = track(0, 80);
+        layering.update();
+
+        // a layer reset elsewhere, e.g. by a level switch, is only restored after invalidating
+        renderable.setLayer(0);
+        assertEquals(0, layering.update());
+        assertEquals(1, layering.invalidate().update());
+        assertEquals(80, (int) renderable.getLayer());
+    }
+
+    @Test
+    public void growsPastItsInitialCapacity() throws TransientGameException {
+        for (int i = 0; i < 20; i++) {
+            track(0, 20 - i);
+        }
+
+        assertEquals(20, layering.size());
+        assertEquals(20, layering.update());
+    }
+
+    private Renderable track(int x, int y) throws TransientGameException {
+        Renderable renderable = Renderable.create(new Point(x, y), 0);
+        GameObject gameObject = gameObjectManager.createGameObject();
+        gameObject.registerFeature(renderable);
+        layering.track(gameObject);
+
+        return renderable;
+    }
+}
@@ -0,0 +1,118 @@
+package info.masterfrog.pixelcat.demo.gameobject.render;
+
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObject;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObjectManager;
+import info.masterfrog.pixelcat.engine.logic.gameobject.feature.Renderable;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.*;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DirtyRegionTrackerTest {
+    private DirtyRegionTracker tracker;
+
+    private static final Rectangle BOUNDS = new Rectangle(0, 0, 1000, 1000);
+
+    @Before
+    public void setUp() {
+        tracker = new DirtyRegionTracker(BOUNDS);
+
+        // a new tracker repaints everything once
+        assertEquals(1000000L, tracker.update());
+        assertTrue(tracker.isFullRepaint());
+    }
+
+    @Test
+    public void mergesMarksWhoseUnionCostsNoMore() {
+        // two overlapping marks, 15x10 as one costing less than 10x10 twice
+        tracker.mark(0, 0, 10, 10).mark(5, 0, 10, 10);
+        assertEquals(150L, tracker.update());
+        List<Rectangle> rectangles = tracker.getDirtyRectangles();
+        assertEquals(1, rectangles.size());
+        assertEquals(new Rectangle(0, 0, 15, 10), rectangles.get(0));
+        assertFalse(tracker.isFullRepaint());
+    }
+
+    @Test
+    public void keepsDistantMarksApart() {
+        tracker.mark(0, 0, 10, 10).mark(500, 500, 10, 10);
+        assertEquals(200L, tracker.update());
+        assertEquals(2, tracker.getDirtyRectangles().size());
+    }
+
+    @Test
+    public void mergesAGrownMarkWithOthersAgain() {
+        // the first two only touch the third once merged
+        tracker.mark(0, 0, 10, 10).mark(20, 0, 10, 10).mark(10, 0, 10, 10);
+        assertEquals(300L, tracker.update());
+        List<Rectangle> rectangles = tracker.getDirtyRectangles();
+        assertEquals(1, rectangles.size());
+        assertEquals(new Rectangle(0, 0, 30, 10), rectangles.get(0));
+    }
+
+    @Test
+    public void clipsMarksToTheScreen() {
+        tracker.mark(-5, -5, 10, 10).mark(2000, 2000, 10, 10);
+        assertEquals(25L, tracker.update());
+        assertEquals(new Rectangle(0, 0, 5, 5), tracker.getDirtyRectangles().get(0));
+    }
+
+    @Test
+    public void repaintsEverythingOnceInvalidated() {
+        tracker.mark(0, 0, 10, 10).invalidate();
+        assertEquals(1000000L, tracker.update());
+        assertTrue(tracker.isFullRepaint());
+        assertEquals(BOUNDS, tracker.getDirtyRectangles().get(0));
+
+        // back to partial repaints on the frame after
+        tracker.mark(0, 0, 10, 10);
+        assertEquals(100L, tracker.update());
+        assertFalse(tracker.isFullRepaint());
+    }
+
+    @Test
+    public void repaintsEverythingPastHalfTheScreen() {
+        // exactly half still repaints only the marks
+        tracker.mark(0, 0, 1000, 500);
+        assertEquals(500000L, tracker.update());
+        assertFalse(tracker.isFullRepaint());
+
+        tracker.mark(0, 0, 1000, 501);
+        assertEquals(1000000L, tracker.update());
+        assertTrue(tracker.isFullRepaint());
+    }
+
+    @Test
+    public void repaintsEverythingPastTheRectangleLimit() {
+        // 33 scattered marks, more than coalescing is worth
+        for (int i = 0; i < 33; i++) {
+            tracker.mark((i % 6) * 150, (i / 6) * 150, 10, 10);
+        }
+        assertEquals(1000000L, tracker.update());
+        assertTrue(tracker.isFullRepaint());
+        assertEquals(1, tracker.getDirtyRectangles().size());
+    }
+
+    @Test
+    public void marksWhereATrackedObjectWasAndIs() throws TransientGameException {
+        Renderable renderable = Renderable.create(new Point(100, 100), 0);
+        GameObject gameObject = GameObjectManager.create(BOUNDS.height).createGameObject();
+        gameObject.registerFeature(renderable);
+        tracker.track(gameObject, 20, 20, false);
+
+        // still objects leave nothing to repaint
+        assertEquals(0L, tracker.update());
+
+        // a move repaints both the old and the new spot
+        renderable.getPosition().setLocation(300, 100);
+        assertEquals(800L, tracker.update());
+        assertEquals(2, tracker.getDirtyRectangles().size());
+        assertEquals(0L, tracker.update());
+    }
+}
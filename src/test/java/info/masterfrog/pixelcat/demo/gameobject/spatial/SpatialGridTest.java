@@ -0,0 +1,118 @@
+package info.masterfrog.pixelcat.demo.gameobject.spatial;
+
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObject;
+import info.masterfrog.pixelcat.engine.logic.gameobject.GameObjectManager;
+import info.masterfrog.pixelcat.engine.logic.gameobject.feature.Renderable;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SpatialGridTest {
+    private GameObjectManager gameObjectManager;
+    private SpatialGrid spatialGrid;
+
+    private static final Rectangle BOUNDS = new Rectangle(0, 0, 640, 480);
+    private static final int CELL_SIZE = 64;
+
+    @Before
+    public void setUp() {
+        gameObjectManager = GameObjectManager.create(BOUNDS.height);
+        spatialGrid = new SpatialGrid(BOUNDS, CELL_SIZE);
+    }
+
+    @Test
+    public void queriesOnlyObjectsWithinTheArea() throws TransientGameException {
+        GameObject inside = createGameObject(100, 100);
+        GameObject sameCellOutside = createGameObject(127, 127);
+        GameObject farAway = createGameObject(500, 400);
+        spatialGrid.add(inside, false).add(sameCellOutside, false).add(farAway, false);
+
+        // the area shares a cell with the second object, which still falls outside of it
+        List<GameObject> results = spatialGrid.query(new Rectangle(90, 90, 20, 20), new ArrayList<>());
+        assertEquals(1, results.size());
+        assertSame(inside, results.get(0));
+
+        // an area spanning several cells collects from each
+        results = spatialGrid.query(new Rectangle(0, 0, 640, 480), new ArrayList<>());
+        assertEquals(3, results.size());
+        assertEquals(3, spatialGrid.size());
+    }
+
+    @Test
+    public void queriesTheNeighbourhoodAroundAPoint() throws TransientGameException {
+        GameObject west = createGameObject(190, 200);
+        GameObject east = createGameObject(210, 200);
+        GameObject edge = createGameObject(200, 211);
+        GameObject beyond = createGameObject(200, 212);
+        spatialGrid.add(west, false).add(east, false).add(edge, false).add(beyond, false);
+
+        // a radius of 11 reaches 11 pixels either way, inclusive
+        List<GameObject> results = spatialGrid.queryNeighbourhood(new Point(200, 200), 11, new ArrayList<>());
+        assertEquals(3, results.size());
+        assertTrue(results.contains(west));
+        assertTrue(results.contains(east));
+        assertTrue(results.contains(edge));
+        assertFalse(results.contains(beyond));
+    }
+
+    @Test
+    public void findsObjectsPositionedOutsideTheBounds() throws TransientGameException {
+        GameObject outside = createGameObject(-50, 600);
+        spatialGrid.add(outside, false);
+
+        // positions past the bounds fall into the edge cells, so areas reaching past them still find the object
+        List<GameObject> results = spatialGrid.query(new Rectangle(-100, 400, 200, 300), new ArrayList<>());
+        assertEquals(1, results.size());
+        assertSame(outside, results.get(0));
+    }
+
+    @Test
+    public void movesAnObjectIntoItsNewCell() throws TransientGameException {
+        GameObject gameObject = createGameObject(10, 10);
+        spatialGrid.add(gameObject, false);
+
+        // moving within the cell keeps the object where it is
+        gameObject.getFeature(Renderable.class).getPosition().setLocation(20, 20);
+        assertFalse(spatialGrid.move(gameObject));
+
+        // moving across cells re-buckets it, so it is only found at its new position
+        gameObject.getFeature(Renderable.class).getPosition().setLocation(300, 300);
+        assertTrue(spatialGrid.move(gameObject));
+        assertEquals(0, spatialGrid.query(new Rectangle(0, 0, 64, 64), new ArrayList<>()).size());
+        assertEquals(1, spatialGrid.query(new Rectangle(256, 256, 64, 64), new ArrayList<>()).size());
+    }
+
+    @Test
+    public void updatesOnlyDynamicObjectsThatChangedCell() throws TransientGameException {
+        GameObject dynamicObject = createGameObject(10, 10);
+        GameObject staticObject = createGameObject(20, 20);
+        spatialGrid.add(dynamicObject, true).add(staticObject, false);
+
+        // nothing moved
+        assertEquals(0, spatialGrid.update());
+
+        // both move across cells, only the dynamic one is re-bucketed
+        dynamicObject.getFeature(Renderable.class).getPosition().setLocation(400, 10);
+        staticObject.getFeature(Renderable.class).getPosition().setLocation(400, 20);
+        assertEquals(1, spatialGrid.update());
+        List<GameObject> results = spatialGrid.query(new Rectangle(384, 0, 64, 64), new ArrayList<>());
+        assertEquals(1, results.size());
+        assertSame(dynamicObject, results.get(0));
+    }
+
+    private GameObject createGameObject(int x, int y) throws TransientGameException {
+        GameObject gameObject = gameObjectManager.createGameObject();
+        gameObject.registerFeature(Renderable.create(new Point(x, y), 0));
+
+        return gameObject;
+    }
+}
@@ -0,0 +1,125 @@
+package info.masterfrog.pixelcat.demo.gameobject.update;
+
+import info.masterfrog.pixelcat.engine.exception.GameErrorCode;
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelUpdatePhaseTest {
+    private ForkJoinPool pool;
+
+    private static final int UPDATE_COUNT = 16;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void sumsTheCountsOfEveryUpdate() throws TransientGameException {
+        ParallelUpdatePhase sequentialPhase = new ParallelUpdatePhase(null);
+        ParallelUpdatePhase parallelPhase = new ParallelUpdatePhase(pool);
+        for (int i = 1; i <= UPDATE_COUNT; i++) {
+            int count = i;
+            sequentialPhase.add(time -> count);
+            parallelPhase.add(time -> count);
+        }
+
+        // 1 + 2 + ... + 16, whether run in turn or forked
+        assertFalse(sequentialPhase.isParallel());
+        assertTrue(parallelPhase.isParallel());
+        assertEquals(136, sequentialPhase.run(0L));
+        assertEquals(136, parallelPhase.run(0L));
+        assertEquals(UPDATE_COUNT, parallelPhase.size());
+    }
+
+    @Test
+    public void returnsOnlyOnceEveryUpdateFinished() throws TransientGameException {
+        AtomicIntegerArray finished = new AtomicIntegerArray(UPDATE_COUNT);
+        ParallelUpdatePhase phase = new ParallelUpdatePhase(pool);
+        for (int i = 0; i < UPDATE_COUNT; i++) {
+            int index = i;
+            phase.add(time -> {
+                // later updates take longer, so an early return would leave them unfinished
+                try {
+                    Thread.sleep(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                finished.set(index, (int) time);
+
+                return 1;
+            });
+        }
+
+        // every update saw this frame's time before the phase returned
+        for (long frame = 1L; frame <= 3L; frame++) {
+            assertEquals(UPDATE_COUNT, phase.run(frame));
+            for (int i = 0; i < UPDATE_COUNT; i++) {
+                assertEquals(frame, finished.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void runsASingleUpdateOnTheCallingThread() throws TransientGameException {
+        Thread[] updateThread = new Thread[1];
+        ParallelUpdatePhase phase = new ParallelUpdatePhase(pool);
+        phase.add(time -> {
+            updateThread[0] = Thread.currentThread();
+
+            return 1;
+        });
+
+        assertEquals(1, phase.run(0L));
+        assertSame(Thread.currentThread(), updateThread[0]);
+    }
+
+    @Test
+    public void rethrowsAFailedUpdate() {
+        TransientGameException failure = new TransientGameException(GameErrorCode.LOGIC_ERROR);
+        ParallelUpdatePhase phase = new ParallelUpdatePhase(pool);
+        for (int i = 0; i < UPDATE_COUNT; i++) {
+            int index = i;
+            phase.add(time -> {
+                if (index == UPDATE_COUNT - 1) {
+                    throw failure;
+                }
+
+                return 1;
+            });
+        }
+
+        try {
+            phase.run(0L);
+        } catch (TransientGameException e) {
+            assertSame(failure, e);
+
+            return;
+        }
+        throw new AssertionError("expected the update failure");
+    }
+
+    @Test
+    public void clearsItsUpdates() throws TransientGameException {
+        ParallelUpdatePhase phase = new ParallelUpdatePhase(pool);
+        phase.add(time -> 1).add(time -> 1);
+
+        assertEquals(0, phase.clear().run(0L));
+        assertEquals(0, phase.size());
+    }
+}
@@ -0,0 +1,69 @@
+package info.masterfrog.pixelcat.demo.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HistogramTest {
+    @Test
+    public void recordsSmallValuesExactly() {
+        Histogram histogram = new Histogram("test");
+        for (long value = 0L; value < 64L; value++) {
+            histogram.record(value);
+        }
+
+        Histogram.Snapshot snapshot = histogram.snapshot(false);
+        assertEquals(64L, snapshot.getCount());
+        assertEquals(31L, snapshot.getPercentile(50));
+        assertEquals(63L, snapshot.getPercentile(100));
+    }
+
+    @Test
+    public void reportsLargeValuesWithinOneSubBucket() {
+        long[] values = {64L, 65L, 100L, 1000L, 123456789L, Long.MAX_VALUE};
+        for (long value : values) {
+            Histogram histogram = new Histogram("test");
+            histogram.record(value);
+
+            // a bucket's lower bound is never above its values, nor more than a 32nd below them
+            long bound = histogram.snapshot(false).getPercentile(100);
+            assertTrue("bound above value [" + value + "]", bound <= value);
+            assertTrue("bound too far below value [" + value + "]", value - bound <= bound / 32);
+        }
+    }
+
+    @Test
+    public void ranksPercentilesByNearestRank() {
+        Histogram histogram = new Histogram("test");
+        for (int i = 0; i < 90; i++) {
+            histogram.record(10L);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(50L);
+        }
+
+        Histogram.Snapshot snapshot = histogram.snapshot(false);
+        assertEquals(10L, snapshot.getPercentile(90));
+        assertEquals(50L, snapshot.getPercentile(91));
+    }
+
+    @Test
+    public void clampsNegativeValuesToZero() {
+        Histogram histogram = new Histogram("test");
+        histogram.record(-5L);
+
+        assertEquals(0L, histogram.snapshot(false).getPercentile(100));
+    }
+
+    @Test
+    public void startsAFreshIntervalOnResettingSnapshots() {
+        Histogram histogram = new Histogram("test");
+        histogram.record(7L);
+
+        assertEquals(1L, histogram.snapshot(true).getCount());
+        Histogram.Snapshot snapshot = histogram.snapshot(false);
+        assertEquals(0L, snapshot.getCount());
+        assertEquals(0L, snapshot.getPercentile(99));
+    }
+}
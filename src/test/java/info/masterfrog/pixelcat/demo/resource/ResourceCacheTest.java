@@ -0,0 +1,68 @@
+package info.masterfrog.pixelcat.demo.resource;
+
+import info.masterfrog.pixelcat.engine.logic.resource.Resource;
+import info.masterfrog.pixelcat.engine.logic.resource.SoundResource;
+import info.masterfrog.pixelcat.engine.logic.resource.SpriteSheet;
+import org.junit.Test;
+
+import java.awt.*;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ResourceCacheTest {
+    private static final String SPRITE_SHEET = "bush_sprite_sheet.png";
+
+    // the cache is shared with every other test, so each test asks for its own sheet geometry
+    private ResourceCache resourceCache = ResourceCache.getInstance();
+
+    @Test
+    public void keepsEntriesWhileAnyOwnerHoldsThem() throws Exception {
+        Object firstOwner = new Object();
+        Object secondOwner = new Object();
+        SpriteSheet spriteSheet = AssetScope.run(firstOwner, () -> resourceCache.getSpriteSheet(SPRITE_SHEET, 9, 19, 1));
+        Resource resource = AssetScope.run(firstOwner, () -> resourceCache.getSpriteResource(0, 0, spriteSheet));
+        AssetScope.run(secondOwner, () -> resourceCache.getSpriteSheet(SPRITE_SHEET, 9, 19, 1));
+
+        // the second owner still holds the sheet, only the sprite held by the first alone goes
+        resourceCache.release(firstOwner);
+        SpriteSheet cachedSpriteSheet = AssetScope.run(secondOwner, () -> resourceCache.getSpriteSheet(SPRITE_SHEET, 9, 19, 1));
+        assertSame(spriteSheet, cachedSpriteSheet);
+        assertNotSame(resource, AssetScope.run(secondOwner, () -> resourceCache.getSpriteResource(0, 0, cachedSpriteSheet)));
+
+        // once the last owner lets go, the sheet is created afresh
+        resourceCache.release(secondOwner);
+        Object thirdOwner = new Object();
+        assertNotSame(spriteSheet, AssetScope.run(thirdOwner, () -> resourceCache.getSpriteSheet(SPRITE_SHEET, 9, 19, 1)));
+        resourceCache.release(thirdOwner);
+    }
+
+    @Test
+    public void neverEvictsUnscopedEntriesOnReleasingAnOwner() throws Exception {
+        SpriteSheet spriteSheet = resourceCache.getSpriteSheet(SPRITE_SHEET, 54, 19, 1);
+        Object owner = new Object();
+        AssetScope.run(owner, () -> resourceCache.getSpriteSheet(SPRITE_SHEET, 54, 19, 1));
+
+        resourceCache.release(owner);
+        assertSame(spriteSheet, resourceCache.getSpriteSheet(SPRITE_SHEET, 54, 19, 1));
+    }
+
+    @Test
+    public void releasesTextAndSoundResourcesWithTheirOwner() throws Exception {
+        Object owner = new Object();
+        Font font = new Font(Font.MONOSPACED, Font.PLAIN, 17);
+        Resource text = AssetScope.run(owner, () -> resourceCache.getTextResource("press start", font));
+        SoundResource sound = AssetScope.run(owner, () -> resourceCache.getSoundResource("release-test.ogg"));
+
+        // shared while the owner holds them
+        assertSame(text, AssetScope.run(owner, () -> resourceCache.getTextResource("press start", font)));
+        assertSame(sound, AssetScope.run(owner, () -> resourceCache.getSoundResource("release-test.ogg")));
+
+        // created afresh once released
+        resourceCache.release(owner);
+        Object nextOwner = new Object();
+        assertNotSame(text, AssetScope.run(nextOwner, () -> resourceCache.getTextResource("press start", font)));
+        assertNotSame(sound, AssetScope.run(nextOwner, () -> resourceCache.getSoundResource("release-test.ogg")));
+        resourceCache.release(nextOwner);
+    }
+}
@@ -0,0 +1,83 @@
+package info.masterfrog.pixelcat.demo.scene;
+
+import info.masterfrog.pixelcat.demo.gameobject.field.BushField;
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import org.junit.Test;
+
+import java.awt.*;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SceneRoundTripTest {
+    private static final Rectangle BOUNDS = new Rectangle(0, 0, 1000, 400);
+
+    @Test
+    public void loadsCompiledPropsAtTheirScreenPositions() throws TransientGameException {
+        // no binary is built for test scenes, so the loader compiles the source in memory
+        List<BushField> fields = SceneLoader.getInstance().load("scenes/round-trip.bin", BOUNDS);
+
+        assertEquals(1, fields.size());
+        BushField field = fields.get(0);
+        assertEquals(2, field.getSize());
+        assertEquals(3, field.getCelCount());
+        assertProp(field, 0, 500, 100, 2, 300L);
+        assertProp(field, 1, 0, 300, 1, 200L);
+    }
+
+    @Test
+    public void loadsTheLevelOneSceneWithinBounds() throws TransientGameException {
+        List<BushField> fields = SceneLoader.getInstance().load("scenes/level-one.bin", BOUNDS);
+
+        assertEquals(1, fields.size());
+        BushField field = fields.get(0);
+        assertEquals(1000, field.getSize());
+        for (int i = 0; i < field.getSize(); i++) {
+            assertTrue(BOUNDS.contains(field.getX(i), field.getY(i)));
+            assertEquals(field.getY(i), field.getLayer(i));
+        }
+    }
+
+    @Test
+    public void compilesScattersDeterministically() throws IOException {
+        assertTrue(Arrays.equals(compileLevelOne(), compileLevelOne()));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsUnknownDirectives() throws IOException {
+        SceneCompiler.compile(new BufferedReader(new StringReader("bush 0.5 0.5\n")), "unknown.scene");
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsPropsOutsideOfAField() throws IOException {
+        SceneCompiler.compile(new BufferedReader(new StringReader("prop 0.5 0.5 0 200\n")), "orphan.scene");
+    }
+
+    @Test(expected = TransientGameException.class)
+    public void rejectsScenesWithoutSource() throws TransientGameException {
+        SceneLoader.getInstance().load("scenes/missing.bin", BOUNDS);
+    }
+
+    private static byte[] compileLevelOne() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            SceneRoundTripTest.class.getClassLoader().getResourceAsStream("scenes/level-one.scene"), StandardCharsets.UTF_8
+        ))) {
+            return SceneCompiler.compile(reader, "level-one.scene");
+        }
+    }
+
+    private static void assertProp(BushField field, int index, int x, int y, int cel, long period) {
+        assertEquals(x, field.getX(index));
+        assertEquals(y, field.getY(index));
+        assertEquals(y, field.getLayer(index));
+        assertEquals(cel, field.getCel(index));
+        assertEquals(period, field.getPeriod(index));
+    }
+}
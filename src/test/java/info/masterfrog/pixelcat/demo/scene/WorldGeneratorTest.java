@@ -0,0 +1,81 @@
+package info.masterfrog.pixelcat.demo.scene;
+
+import info.masterfrog.pixelcat.engine.exception.TransientGameException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class WorldGeneratorTest {
+    private ForkJoinPool pool;
+
+    private static final int CHUNK_COUNT = 64;
+    private static final int VALUES_PER_CHUNK = 16;
+
+    private static final WorldGenerator.ChunkGenerator<List<Long>> DRAW_VALUES = (chunkKey, random) -> {
+        List<Long> values = new ArrayList<>(VALUES_PER_CHUNK);
+        for (int i = 0; i < VALUES_PER_CHUNK; i++) {
+            values.add(random.nextLong());
+        }
+
+        return values;
+    };
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void generatesTheSameWorldFromTheSameSeed() throws TransientGameException {
+        List<List<Long>> first = new WorldGenerator(42L, pool).generate(CHUNK_COUNT, DRAW_VALUES);
+        List<List<Long>> second = new WorldGenerator(42L, pool).generate(CHUNK_COUNT, DRAW_VALUES);
+
+        assertEquals(CHUNK_COUNT, first.size());
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void generatesADifferentWorldFromADifferentSeed() throws TransientGameException {
+        List<List<Long>> first = new WorldGenerator(42L, pool).generate(CHUNK_COUNT, DRAW_VALUES);
+        List<List<Long>> second = new WorldGenerator(43L, pool).generate(CHUNK_COUNT, DRAW_VALUES);
+
+        // not a single chunk carries over
+        for (int chunk = 0; chunk < CHUNK_COUNT; chunk++) {
+            assertFalse(first.get(chunk).equals(second.get(chunk)));
+        }
+    }
+
+    @Test
+    public void generatesEachChunkAloneAsInTheWholeWorld() throws TransientGameException {
+        WorldGenerator worldGenerator = new WorldGenerator(42L, pool);
+        List<List<Long>> world = worldGenerator.generate(CHUNK_COUNT, DRAW_VALUES);
+
+        // chunks depend on their key alone, not on the order, the pool or the chunk count
+        for (int chunk = CHUNK_COUNT - 1; chunk >= 0; chunk--) {
+            assertEquals(world.get(chunk), worldGenerator.generate((long) chunk, DRAW_VALUES));
+        }
+        assertEquals(world.subList(0, 8), worldGenerator.generate(8, DRAW_VALUES));
+    }
+
+    @Test
+    public void startsNeighbouringChunksOnUnrelatedStreams() throws TransientGameException {
+        WorldGenerator worldGenerator = new WorldGenerator(42L, pool);
+        List<Long> chunk = worldGenerator.generate(WorldGenerator.getChunkKey(3, 7), DRAW_VALUES);
+
+        assertFalse(chunk.equals(worldGenerator.generate(WorldGenerator.getChunkKey(3, 8), DRAW_VALUES)));
+        assertFalse(chunk.equals(worldGenerator.generate(WorldGenerator.getChunkKey(4, 7), DRAW_VALUES)));
+        assertFalse(chunk.equals(worldGenerator.generate(WorldGenerator.getChunkKey(7, 3), DRAW_VALUES)));
+    }
+}